@@ -19,9 +19,12 @@ CREATE TABLE IF NOT EXISTS jobs (
     title VARCHAR(150) NOT NULL,
     description TEXT,
     skills TEXT,
+    skill_count INT NOT NULL DEFAULT 0,
     created_by INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (created_by) REFERENCES users(id)
+    FOREIGN KEY (created_by) REFERENCES users(id),
+    INDEX idx_jobs_title_id (title, id),
+    FULLTEXT INDEX ft_jobs_search (title, description, skills)
 );
 
 -- Create seekers table
@@ -30,9 +33,46 @@ CREATE TABLE IF NOT EXISTS seekers (
     name VARCHAR(150) NOT NULL,
     email VARCHAR(150) UNIQUE,
     skills TEXT,
+    skill_count INT NOT NULL DEFAULT 0,
     created_by INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (created_by) REFERENCES users(id)
+    FOREIGN KEY (created_by) REFERENCES users(id),
+    INDEX idx_seekers_name_id (name, id)
+);
+
+-- Create items table
+CREATE TABLE IF NOT EXISTS items (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    quantity INT DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_items_name_id (name, id)
+);
+
+-- Create normalized skill tables, kept in sync with jobs.skills and seekers.skills
+CREATE TABLE IF NOT EXISTS skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    UNIQUE KEY uq_skills_name (name)
+);
+
+CREATE TABLE IF NOT EXISTS job_skills (
+    job_id INT NOT NULL,
+    skill_id INT NOT NULL,
+    PRIMARY KEY (job_id, skill_id),
+    KEY idx_job_skills_skill (skill_id, job_id),
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id)
+);
+
+CREATE TABLE IF NOT EXISTS seeker_skills (
+    seeker_id INT NOT NULL,
+    skill_id INT NOT NULL,
+    PRIMARY KEY (seeker_id, skill_id),
+    KEY idx_seeker_skills_skill (skill_id, seeker_id),
+    FOREIGN KEY (seeker_id) REFERENCES seekers(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id)
 );
 
 -- Insert sample data
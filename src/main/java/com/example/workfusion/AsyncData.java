@@ -0,0 +1,252 @@
+package com.example.workfusion;
+
+import com.example.workfusion.dao.UserDao;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Asynchronous facade over {@link Database}, {@link ItemDao} and {@link UserDao}.
+ * <p>
+ * Every call runs on its own virtual thread and returns a {@link CompletableFuture},
+ * so callers such as JavaFX controllers never block on MySQL. A fair semaphore with
+ * one permit per pooled connection bounds the calls running at once: excess calls
+ * wait on the semaphore, parked virtual threads that hold no platform thread and no
+ * connection, instead of piling up in the pool and running into its borrow timeout.
+ * A failed call completes its future exceptionally with a {@link CompletionException}
+ * whose cause is the {@link SQLException}; see {@link #cause(Throwable)}.
+ * <p>
+ * Completion stages run on the virtual thread of the call; UI code must hop back to
+ * its own thread, for example with {@code whenCompleteAsync(action, Platform::runLater)}.
+ */
+public final class AsyncData {
+
+    private static final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("data-", 0).factory());
+    private static final Semaphore permits = new Semaphore(Database.getMaxConnections(), true);
+    private static final ItemDao itemDao = new ItemDao();
+    private static final UserDao userDao = new UserDao();
+
+    private AsyncData() {
+    }
+
+    /**
+     * Data access call returning a value.
+     */
+    public interface Call<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * Data access call without a result.
+     */
+    public interface Action {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Run a call on a virtual thread once a connection permit is free.
+     *
+     * @param call The call; it must not hold more than one connection at a time
+     * @return Future completed with the call's result or failure
+     */
+    public static <T> CompletableFuture<T> supply(Call<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return call.call();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Run an action on a virtual thread once a connection permit is free.
+     *
+     * @param action The action; it must not hold more than one connection at a time
+     * @return Future completed when the action has run
+     */
+    public static CompletableFuture<Void> run(Action action) {
+        return supply(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the error behind a failed future, without its completion wrappers.
+     *
+     * @param error Error passed to a completion stage
+     * @return The underlying error, usually an {@link SQLException}
+     */
+    public static Throwable cause(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    // Calls holding a permit, and calls waiting for one
+    public static int getRunningCalls() { return Database.getMaxConnections() - permits.availablePermits(); }
+    public static int getWaitingCalls() { return permits.getQueueLength(); }
+
+    // Users
+    public static CompletableFuture<User> getUserByUsername(String username) {
+        return supply(() -> Database.getUserByUsername(username));
+    }
+
+    public static CompletableFuture<User> createUser(User user) {
+        return supply(() -> userDao.create(user));
+    }
+
+    public static CompletableFuture<Optional<User>> readUser(int id) {
+        return supply(() -> userDao.read(id));
+    }
+
+    public static CompletableFuture<List<User>> readAllUsers() {
+        return supply(userDao::readAll);
+    }
+
+    public static CompletableFuture<List<User>> readUsersPage(String afterUsername, int afterId, int pageSize) {
+        return supply(() -> userDao.readPage(afterUsername, afterId, pageSize));
+    }
+
+    public static CompletableFuture<Boolean> updateUser(User user) {
+        return supply(() -> userDao.update(user));
+    }
+
+    public static CompletableFuture<Boolean> deleteUser(int id) {
+        return supply(() -> userDao.delete(id));
+    }
+
+    // Jobs
+    public static CompletableFuture<Job> insertJob(Job job) {
+        return supply(() -> {
+            Database.insertJob(job);
+            return job;
+        });
+    }
+
+    public static CompletableFuture<int[]> insertJobs(List<Job> jobs) {
+        return supply(() -> Database.insertJobs(jobs));
+    }
+
+    public static CompletableFuture<List<Job>> getAllJobs() {
+        return supply(Database::getAllJobs);
+    }
+
+    public static CompletableFuture<List<Job>> getJobsPage(String afterTitle, int afterId, int pageSize) {
+        return supply(() -> Database.getJobsPage(afterTitle, afterId, pageSize));
+    }
+
+    public static CompletableFuture<List<Job>> searchJobs(String keywords, int page, int pageSize) {
+        return supply(() -> Database.searchJobs(keywords, page, pageSize));
+    }
+
+    public static CompletableFuture<Void> updateJob(Job job) {
+        return run(() -> Database.updateJob(job));
+    }
+
+    public static CompletableFuture<Void> updateJobs(List<Job> jobs) {
+        return run(() -> Database.updateJobs(jobs));
+    }
+
+    public static CompletableFuture<Void> deleteJob(int jobId) {
+        return run(() -> Database.deleteJob(jobId));
+    }
+
+    // Seekers
+    public static CompletableFuture<Seeker> insertSeeker(Seeker seeker) {
+        return supply(() -> {
+            Database.insertSeeker(seeker);
+            return seeker;
+        });
+    }
+
+    public static CompletableFuture<int[]> insertSeekers(List<Seeker> seekers) {
+        return supply(() -> Database.insertSeekers(seekers));
+    }
+
+    public static CompletableFuture<List<Seeker>> getAllSeekers() {
+        return supply(Database::getAllSeekers);
+    }
+
+    public static CompletableFuture<List<Seeker>> getSeekersPage(String afterName, int afterId, int pageSize) {
+        return supply(() -> Database.getSeekersPage(afterName, afterId, pageSize));
+    }
+
+    public static CompletableFuture<Void> updateSeeker(Seeker seeker) {
+        return run(() -> Database.updateSeeker(seeker));
+    }
+
+    public static CompletableFuture<Void> updateSeekers(List<Seeker> seekers) {
+        return run(() -> Database.updateSeekers(seekers));
+    }
+
+    public static CompletableFuture<Void> deleteSeeker(int seekerId) {
+        return run(() -> Database.deleteSeeker(seekerId));
+    }
+
+    // Skill candidates
+    public static CompletableFuture<List<Seeker>> getSeekersSharingSkill(int jobId) {
+        return supply(() -> Database.getSeekersSharingSkill(jobId));
+    }
+
+    public static CompletableFuture<List<Job>> getJobsSharingSkill(int seekerId) {
+        return supply(() -> Database.getJobsSharingSkill(seekerId));
+    }
+
+    // Matching
+    public static CompletableFuture<MatchCorpus> prepareCorpus() {
+        return supply(Matcher::prepareFromDatabase);
+    }
+
+    // Items
+    public static CompletableFuture<Item> createItem(Item item) {
+        return supply(() -> itemDao.create(item));
+    }
+
+    public static CompletableFuture<List<Item>> createItems(List<Item> items) {
+        return supply(() -> itemDao.createAll(items));
+    }
+
+    public static CompletableFuture<Item> readItem(int id) {
+        return supply(() -> itemDao.read(id));
+    }
+
+    public static CompletableFuture<List<Item>> readAllItems() {
+        return supply(itemDao::readAll);
+    }
+
+    public static CompletableFuture<List<Item>> readItemsPage(String afterName, int afterId, int pageSize) {
+        return supply(() -> itemDao.readPage(afterName, afterId, pageSize));
+    }
+
+    public static CompletableFuture<Boolean> updateItem(Item item) {
+        return supply(() -> itemDao.update(item));
+    }
+
+    public static CompletableFuture<Integer> updateItems(List<Item> items) {
+        return supply(() -> itemDao.updateAll(items));
+    }
+
+    public static CompletableFuture<Boolean> deleteItem(int id) {
+        return supply(() -> itemDao.delete(id));
+    }
+}
@@ -0,0 +1,710 @@
+package com.example.workfusion;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Pooled {@link DataSource} over {@link DriverManager} connections.
+ * <p>
+ * Connections handed out are proxies: closing one returns the physical connection
+ * to the pool, after rolling back any open transaction and restoring auto-commit.
+ * Idle connections are reused most recently returned first and validated with
+ * {@link Connection#isValid(int)} on borrow. A background housekeeper closes
+ * connections idle for longer than the idle timeout down to the minimum size,
+ * tops the pool back up to it, and reports connections borrowed for longer than
+ * the leak threshold together with the name of the borrowing thread. The stack
+ * trace of the borrowing call is only captured when leak tracing is enabled,
+ * since filling one in on every borrow is costly.
+ * <p>
+ * Each physical connection also keeps an LRU cache of its prepared statements,
+ * keyed by SQL text. Preparing a cached SQL string again hands back the open
+ * statement, whose {@code close()} only clears its parameters and restores the
+ * fetch size, row limit, query timeout and fetch direction it was prepared with,
+ * so with server-side prepared statements the server parses each statement once
+ * per connection. A statement already in use is never shared; a second prepare of
+ * the same SQL while the first is open gets an uncached statement. Uncached
+ * statements a borrower leaves open are closed when the connection is returned.
+ */
+public class ConnectionPool implements DataSource {
+
+    private static final long HOUSEKEEPING_MILLIS = 5_000;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+
+    private long idleTimeoutMillis = 10 * 60_000;
+    private long borrowTimeoutMillis = 30_000;
+    private long leakThresholdMillis = 60_000;
+    private boolean leakTracing;
+    private int validationTimeoutSeconds = 2;
+    private int statementCacheSize = 32;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final List<PooledConnection> borrowed = new ArrayList<>();
+    private int total;
+    private int waiting;
+    private boolean closed;
+
+    private long createdCount;
+    private long borrowCount;
+    private long timeoutCount;
+    private long validationFailures;
+    private long leakCount;
+    private final AtomicLong statementHits = new AtomicLong();
+    private final AtomicLong statementMisses = new AtomicLong();
+    private final AtomicLong statementEvictions = new AtomicLong();
+
+    private final ScheduledExecutorService housekeeper;
+    private PrintWriter logWriter;
+
+    /**
+     * Create a pool.
+     *
+     * @param url JDBC URL
+     * @param user Database user
+     * @param password Database password
+     * @param minSize Connections kept open even when idle
+     * @param maxSize Upper bound on open connections
+     */
+    public ConnectionPool(String url, String user, String password, int minSize, int maxSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid pool size: min " + minSize + ", max " + maxSize);
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, HOUSEKEEPING_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public int getMinSize() { return minSize; }
+    public int getMaxSize() { return maxSize; }
+
+    public long getIdleTimeoutMillis() { return idleTimeoutMillis; }
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) { this.idleTimeoutMillis = idleTimeoutMillis; }
+
+    public long getBorrowTimeoutMillis() { return borrowTimeoutMillis; }
+    public void setBorrowTimeoutMillis(long borrowTimeoutMillis) { this.borrowTimeoutMillis = borrowTimeoutMillis; }
+
+    /** A threshold of 0 disables leak detection. */
+    public long getLeakThresholdMillis() { return leakThresholdMillis; }
+    public void setLeakThresholdMillis(long leakThresholdMillis) { this.leakThresholdMillis = leakThresholdMillis; }
+
+    /** Record the stack trace of every borrow, for leak reports; off by default. */
+    public boolean isLeakTracing() { return leakTracing; }
+    public void setLeakTracing(boolean leakTracing) { this.leakTracing = leakTracing; }
+
+    public int getValidationTimeoutSeconds() { return validationTimeoutSeconds; }
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) { this.validationTimeoutSeconds = validationTimeoutSeconds; }
+
+    /** Statements cached per connection; 0 disables the cache. */
+    public int getStatementCacheSize() { return statementCacheSize; }
+    public void setStatementCacheSize(int statementCacheSize) { this.statementCacheSize = statementCacheSize; }
+
+    // Pool metrics
+    public int getTotalConnections() { return withLock(() -> total); }
+    public int getIdleConnections() { return withLock(idle::size); }
+    public int getActiveConnections() { return withLock(borrowed::size); }
+    public int getWaitingThreads() { return withLock(() -> waiting); }
+    public long getCreatedCount() { return withLock(() -> createdCount); }
+    public long getBorrowCount() { return withLock(() -> borrowCount); }
+    public long getTimeoutCount() { return withLock(() -> timeoutCount); }
+    public long getValidationFailures() { return withLock(() -> validationFailures); }
+    public long getLeakCount() { return withLock(() -> leakCount); }
+    public long getStatementCacheHits() { return statementHits.get(); }
+    public long getStatementCacheMisses() { return statementMisses.get(); }
+    public long getStatementCacheEvictions() { return statementEvictions.get(); }
+
+    @Override
+    public String toString() {
+        return withLock(() -> String.format(
+                "ConnectionPool[total=%d, idle=%d, active=%d, waiting=%d, created=%d, borrowed=%d, timeouts=%d, leaks=%d,"
+                        + " statement hits=%d, misses=%d]",
+                total, idle.size(), borrowed.size(), waiting, createdCount, borrowCount, timeoutCount, leakCount,
+                statementHits.get(), statementMisses.get()));
+    }
+
+    /**
+     * Borrow a connection, waiting up to the borrow timeout when all are in use.
+     *
+     * @return Connection returning to the pool when closed
+     * @throws SQLException If the pool is closed, the wait times out or a new connection fails
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        while (true) {
+            PooledConnection pooled = null;
+            boolean create = false;
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed");
+                    }
+                    pooled = idle.pollFirst();
+                    if (pooled != null) {
+                        break;
+                    }
+                    if (total < maxSize) {
+                        total++;
+                        create = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount++;
+                        throw new SQLException("Timed out after " + borrowTimeoutMillis
+                                + " ms waiting for a connection: " + this);
+                    }
+                    waiting++;
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a connection", e);
+                    } finally {
+                        waiting--;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (create) {
+                pooled = open();
+            } else if (!isValid(pooled)) {
+                discard(pooled);
+                continue;
+            }
+            return lease(pooled);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+
+    /**
+     * Close all idle connections and stop handing out new ones. Borrowed
+     * connections are closed when they are returned.
+     */
+    public void close() {
+        List<PooledConnection> toClose;
+        lock.lock();
+        try {
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            total -= toClose.size();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        housekeeper.shutdownNow();
+        for (PooledConnection pooled : toClose) {
+            Database.close(pooled.physical);
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(url, user, password);
+            lock.lock();
+            try {
+                createdCount++;
+            } finally {
+                lock.unlock();
+            }
+            return new PooledConnection(physical);
+        } catch (SQLException | RuntimeException e) {
+            lock.lock();
+            try {
+                total--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            if (pooled.physical.isValid(validationTimeoutSeconds)) {
+                return true;
+            }
+        } catch (SQLException e) {
+            // Treated as invalid
+        }
+        lock.lock();
+        try {
+            validationFailures++;
+        } finally {
+            lock.unlock();
+        }
+        return false;
+    }
+
+    private Connection lease(PooledConnection pooled) {
+        pooled.borrowedAt = System.currentTimeMillis();
+        pooled.borrowThread = Thread.currentThread().getName();
+        pooled.borrowTrace = leakTracing && leakThresholdMillis > 0 ? new Throwable("Connection borrowed here") : null;
+        pooled.leakReported = false;
+        lock.lock();
+        try {
+            borrowCount++;
+            borrowed.add(pooled);
+        } finally {
+            lock.unlock();
+        }
+        return pooled.newHandle();
+    }
+
+    private void release(PooledConnection pooled) {
+        pooled.closeLeakedStatements();
+        boolean reusable;
+        try {
+            if (!pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+                pooled.physical.setAutoCommit(true);
+            }
+            pooled.physical.clearWarnings();
+            reusable = !pooled.physical.isClosed();
+        } catch (SQLException e) {
+            reusable = false;
+        }
+
+        lock.lock();
+        try {
+            borrowed.remove(pooled);
+            if (reusable && !closed) {
+                pooled.lastUsed = System.currentTimeMillis();
+                idle.addFirst(pooled);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        discard(pooled);
+    }
+
+    private void discard(PooledConnection pooled) {
+        lock.lock();
+        try {
+            total--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+        Database.close(pooled.physical);
+    }
+
+    /**
+     * Evict idle connections, refill to the minimum size and report leaks.
+     */
+    void housekeep() {
+        long now = System.currentTimeMillis();
+        List<PooledConnection> evicted = new ArrayList<>();
+        int missing;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            // Oldest idle connections are at the tail
+            while (total - evicted.size() > minSize && !idle.isEmpty()
+                    && now - idle.peekLast().lastUsed > idleTimeoutMillis) {
+                evicted.add(idle.pollLast());
+            }
+            total -= evicted.size();
+
+            if (leakThresholdMillis > 0) {
+                for (PooledConnection pooled : borrowed) {
+                    if (!pooled.leakReported && now - pooled.borrowedAt > leakThresholdMillis) {
+                        pooled.leakReported = true;
+                        leakCount++;
+                        System.err.println("Possible connection leak: borrowed " + (now - pooled.borrowedAt)
+                                + " ms ago by thread " + pooled.borrowThread + " and not closed");
+                        if (pooled.borrowTrace != null) {
+                            pooled.borrowTrace.printStackTrace();
+                        }
+                    }
+                }
+            }
+
+            missing = Math.max(0, minSize - total);
+            total += missing;
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledConnection pooled : evicted) {
+            Database.close(pooled.physical);
+        }
+        for (int i = 0; i < missing; i++) {
+            try {
+                PooledConnection pooled = open();
+                lock.lock();
+                try {
+                    pooled.lastUsed = System.currentTimeMillis();
+                    idle.addLast(pooled);
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException | RuntimeException e) {
+                // open() has released the reserved slots one by one; give up on the rest
+                lock.lock();
+                try {
+                    total -= missing - i - 1;
+                } finally {
+                    lock.unlock();
+                }
+                System.err.println("Error filling connection pool: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private <T> T withLock(Supplier<T> supplier) {
+        lock.lock();
+        try {
+            return supplier.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return logWriter;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        this.logWriter = out;
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * A physical connection and its bookkeeping.
+     */
+    private class PooledConnection {
+        final Connection physical;
+        volatile long lastUsed;
+        volatile long borrowedAt;
+        volatile String borrowThread;
+        volatile Throwable borrowTrace;
+        volatile boolean leakReported;
+
+        // Only touched by the current borrower, so not synchronized
+        final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+        final List<Statement> uncached = new ArrayList<>();
+
+        PooledConnection(Connection physical) {
+            this.physical = physical;
+        }
+
+        /**
+         * Prepare a statement through the cache.
+         *
+         * @param connection The borrower's connection handle
+         * @param sql SQL text
+         * @param autoGeneratedKeys Key flag, or -1 for the plain {@code prepareStatement(String)}
+         */
+        PreparedStatement prepare(Connection connection, String sql, int autoGeneratedKeys) throws SQLException {
+            String key = autoGeneratedKeys + ":" + sql;
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.inUse) {
+                statementHits.incrementAndGet();
+                return cached.lease(connection);
+            }
+            statementMisses.incrementAndGet();
+            PreparedStatement statement = autoGeneratedKeys < 0
+                    ? physical.prepareStatement(sql)
+                    : physical.prepareStatement(sql, autoGeneratedKeys);
+            if (cached != null || statementCacheSize <= 0) {
+                return track(statement);
+            }
+
+            try {
+                cached = new CachedStatement(statement);
+            } catch (SQLException e) {
+                Database.close(statement);
+                throw e;
+            }
+            statements.put(key, cached);
+            Iterator<CachedStatement> eldest = statements.values().iterator();
+            while (statements.size() > statementCacheSize && eldest.hasNext()) {
+                CachedStatement candidate = eldest.next();
+                if (!candidate.inUse) {
+                    eldest.remove();
+                    Database.close(candidate.statement);
+                    statementEvictions.incrementAndGet();
+                }
+            }
+            return cached.lease(connection);
+        }
+
+        /**
+         * Remember a statement created outside the cache, so it is closed with the lease.
+         * Statements already closed by the borrower are forgotten on the way.
+         */
+        <T extends Statement> T track(T statement) throws SQLException {
+            Iterator<Statement> open = uncached.iterator();
+            while (open.hasNext()) {
+                if (open.next().isClosed()) {
+                    open.remove();
+                }
+            }
+            uncached.add(statement);
+            return statement;
+        }
+
+        /**
+         * Drop statements the last borrower never closed, so stale handles cannot reach them.
+         */
+        void closeLeakedStatements() {
+            for (Statement statement : uncached) {
+                Database.close(statement);
+            }
+            uncached.clear();
+            Iterator<CachedStatement> iterator = statements.values().iterator();
+            while (iterator.hasNext()) {
+                CachedStatement cached = iterator.next();
+                if (cached.inUse) {
+                    iterator.remove();
+                    cached.inUse = false;
+                    Database.close(cached.statement);
+                }
+            }
+        }
+
+        /**
+         * Create the proxy handed to one borrower. Each lease gets its own handle,
+         * so closing a stale handle twice cannot return a connection in use by someone else.
+         */
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new Handle(this));
+        }
+    }
+
+    /**
+     * Invocation handler of a borrowed connection.
+     */
+    private class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean returned;
+
+        Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled" + pooled.physical;
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("Connection is closed");
+            }
+            if (method.getName().equals("prepareStatement") && args.length == 1) {
+                return pooled.prepare((Connection) proxy, (String) args[0], -1);
+            }
+            if (method.getName().equals("prepareStatement") && args.length == 2 && args[1] instanceof Integer) {
+                return pooled.prepare((Connection) proxy, (String) args[0], (Integer) args[1]);
+            }
+            Object result;
+            try {
+                result = method.invoke(pooled.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return result instanceof Statement ? pooled.track((Statement) result) : result;
+        }
+    }
+
+    /**
+     * A prepared statement kept open in a connection's cache.
+     */
+    private static class CachedStatement {
+        final PreparedStatement statement;
+        boolean inUse;
+
+        // Settings the statement was prepared with, restored whenever it is closed
+        final int fetchSize;
+        final int maxRows;
+        final int queryTimeout;
+        final int fetchDirection;
+
+        CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.queryTimeout = statement.getQueryTimeout();
+            this.fetchDirection = statement.getFetchDirection();
+        }
+
+        PreparedStatement lease(Connection connection) {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, new StatementHandle(this, connection));
+        }
+    }
+
+    /**
+     * Invocation handler of a cached statement lent to one borrower.
+     * Closing it closes the open result set, clears the parameters and restores
+     * the settings a borrower may have changed, but keeps the statement prepared.
+     */
+    private static class StatementHandle implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection connection;
+        private boolean closed;
+
+        StatementHandle(CachedStatement cached, Connection connection) {
+            this.cached = cached;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            PreparedStatement statement = cached.statement;
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        reset(cached);
+                        cached.inUse = false;
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached" + statement;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private static void reset(CachedStatement cached) throws SQLException {
+            PreparedStatement statement = cached.statement;
+            ResultSet resultSet = statement.getResultSet();
+            if (resultSet != null) {
+                resultSet.close();
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            // A fetch size left behind by a streaming read would turn later reads into cursor fetches
+            if (statement.getFetchSize() != cached.fetchSize) {
+                statement.setFetchSize(cached.fetchSize);
+            }
+            if (statement.getMaxRows() != cached.maxRows) {
+                statement.setMaxRows(cached.maxRows);
+            }
+            if (statement.getQueryTimeout() != cached.queryTimeout) {
+                statement.setQueryTimeout(cached.queryTimeout);
+            }
+            if (statement.getFetchDirection() != cached.fetchDirection) {
+                statement.setFetchDirection(cached.fetchDirection);
+            }
+        }
+    }
+}
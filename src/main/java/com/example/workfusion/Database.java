@@ -4,21 +4,344 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Database {
-    private static final String URL = "jdbc:mysql://127.0.0.1:3306/job_matching";
+    // Server-side prepared statements, so statements cached by the pool skip the server parse
+    // rewriteBatchedStatements turns a batch of single-row INSERTs into multi-row INSERTs
+    // useCursorFetch makes statements with a fetch size read through a server-side cursor
+    private static final String URL = "jdbc:mysql://127.0.0.1:3306/job_matching"
+            + "?useServerPrepStmts=true&rewriteBatchedStatements=true&useCursorFetch=true";
     private static final String USER = "root";
     private static final String PASSWORD = "Jaya98765!";
 
-    // Get database connection
+    // Pool size bounds; the housekeeper keeps POOL_MIN_SIZE connections open
+    private static final int POOL_MIN_SIZE = 2;
+    private static final int POOL_MAX_SIZE = 10;
+
+    // Rows sent per executeBatch round trip
+    private static final int BATCH_SIZE = 1000;
+
+    // Rows fetched per cursor round trip when streaming
+    private static final int FETCH_SIZE = 500;
+
+    // Skill names per IN list, and rows per backfill transaction
+    private static final int SKILL_LOOKUP_SIZE = 500;
+    private static final int BACKFILL_CHUNK_SIZE = 500;
+
+    // Shortest word in the FULLTEXT index (innodb_ft_min_token_size)
+    private static final int MIN_SEARCH_TERM = 3;
+
+    // Read-through caches per table; every write to a table drops its cache
+    private static final int CACHE_MAX_ENTRIES = 256;
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    private static final EntityCache userCache = new EntityCache("users", CACHE_MAX_ENTRIES, CACHE_TTL_MILLIS);
+    private static final EntityCache jobCache = new EntityCache("jobs", CACHE_MAX_ENTRIES, CACHE_TTL_MILLIS);
+    private static final EntityCache seekerCache = new EntityCache("seekers", CACHE_MAX_ENTRIES, CACHE_TTL_MILLIS);
+    private static final EntityCache itemCache = new EntityCache("items", CACHE_MAX_ENTRIES, CACHE_TTL_MILLIS);
+
+    private static final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private static ConnectionPool pool;
+
+    /**
+     * Listener notified after a job or seeker row has been written successfully.
+     */
+    public interface ChangeListener {
+        void seekerSaved(Seeker seeker);
+        void seekerDeleted(int seekerId);
+        void jobSaved(Job job);
+        void jobDeleted(int jobId);
+    }
+
+    /**
+     * Binds the values of one row to a prepared statement.
+     */
+    public interface RowBinder<T> {
+        void bind(PreparedStatement pstmt, T row) throws SQLException;
+    }
+
+    /**
+     * Maps the current row of a result set to an object.
+     */
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Work run inside a transaction, see {@link #inTransaction}.
+     */
+    public interface TransactionWork<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    /**
+     * Receives rows one at a time from a streaming read.
+     */
+    public interface RowCallback<T> {
+        void accept(T row) throws SQLException;
+    }
+
+    // Register a listener for job and seeker writes
+    public static void addChangeListener(ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    // Unregister a change listener
+    public static void removeChangeListener(ChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    // Get the shared connection pool, creating it on first use
+    public static synchronized ConnectionPool getDataSource() throws SQLException {
+        if (pool == null) {
+            try {
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            } catch (ClassNotFoundException e) {
+                throw new SQLException("MySQL JDBC Driver not found", e);
+            }
+            pool = new ConnectionPool(URL, USER, PASSWORD, POOL_MIN_SIZE, POOL_MAX_SIZE);
+        }
+        return pool;
+    }
+
+    // Caches of query results per table, for DAOs and statistics
+    public static EntityCache getUserCache() { return userCache; }
+    public static EntityCache getJobCache() { return jobCache; }
+    public static EntityCache getSeekerCache() { return seekerCache; }
+    public static EntityCache getItemCache() { return itemCache; }
+
+    // Upper bound on connections open at once
+    public static int getMaxConnections() {
+        return POOL_MAX_SIZE;
+    }
+
+    // Get database connection; closing it returns it to the pool
     public static Connection getConnection() throws SQLException {
+        return getDataSource().getConnection();
+    }
+
+    /**
+     * Run work in a single transaction on one pooled connection. The
+     * transaction is committed when the work returns and rolled back when it
+     * throws.
+     *
+     * @param work Work to run; it must not close the connection
+     * @return What the work returned
+     * @throws SQLException If the work or the commit fails
+     */
+    public static <T> T inTransaction(TransactionWork<T> work) throws SQLException {
+        try (Connection conn = getConnection()) {
+            return inTransaction(conn, work);
+        }
+    }
+
+    /**
+     * Run work in a single transaction on a connection the caller holds.
+     *
+     * @param conn Connection in auto-commit mode; it is not closed
+     * @param work Work to run
+     * @return What the work returned
+     * @throws SQLException If the work or the commit fails
+     */
+    public static <T> T inTransaction(Connection conn, TransactionWork<T> work) throws SQLException {
+        conn.setAutoCommit(false);
+        try {
+            T result = work.run(conn);
+            conn.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Execute a statement once per row as JDBC batches in a single transaction.
+     * Either every row is written or, on error, none is.
+     *
+     * @param sql Statement with parameters for one row
+     * @param rows Rows to write
+     * @param binder Binds one row to the statement
+     * @param returnKeys Whether to return generated keys instead of update counts
+     * @return Generated key or update count per row, in row order
+     * @throws SQLException If any row fails; the transaction is rolled back
+     */
+    public static <T> int[] executeBatch(String sql, List<T> rows, RowBinder<T> binder, boolean returnKeys)
+            throws SQLException {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return inTransaction(conn -> executeBatch(conn, sql, rows, binder, returnKeys));
+    }
+
+    /**
+     * Execute a statement once per row as JDBC batches on a connection, as part
+     * of the caller's transaction.
+     *
+     * @param conn Connection to run on; it is not closed
+     * @param sql Statement with parameters for one row
+     * @param rows Rows to write
+     * @param binder Binds one row to the statement
+     * @param returnKeys Whether to return generated keys instead of update counts
+     * @return Generated key or update count per row, in row order
+     * @throws SQLException If any row fails
+     */
+    public static <T> int[] executeBatch(Connection conn, String sql, List<T> rows, RowBinder<T> binder,
+                                         boolean returnKeys) throws SQLException {
+        int[] results = new int[rows.size()];
+        if (rows.isEmpty()) {
+            return results;
+        }
+
+        try (PreparedStatement pstmt = returnKeys
+                ? conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : conn.prepareStatement(sql)) {
+            int done = 0;
+            while (done < rows.size()) {
+                int end = Math.min(rows.size(), done + BATCH_SIZE);
+                for (int i = done; i < end; i++) {
+                    binder.bind(pstmt, rows.get(i));
+                    pstmt.addBatch();
+                }
+                int[] counts = pstmt.executeBatch();
+                if (returnKeys) {
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        for (int i = done; i < end && rs.next(); i++) {
+                            results[i] = rs.getInt(1);
+                        }
+                    }
+                } else {
+                    System.arraycopy(counts, 0, results, done, Math.min(counts.length, end - done));
+                }
+                done = end;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Run a query and stream its rows through a server-side cursor, so only
+     * {@code FETCH_SIZE} rows are held in memory at a time. The stream keeps a
+     * pooled connection until it is closed, so always close it, for example
+     * with try-with-resources. Errors while reading rows are thrown as
+     * {@link RuntimeException} with the {@link SQLException} as cause.
+     *
+     * @param sql Query to run
+     * @param mapper Maps one row
+     * @return Lazily populated stream of mapped rows
+     * @throws SQLException If the query cannot be started
+     */
+    public static <T> Stream<T> stream(String sql, RowMapper<T> mapper) throws SQLException {
+        Connection conn = getConnection();
+        PreparedStatement pstmt = null;
+        ResultSet rs;
         try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            return DriverManager.getConnection(URL, USER, PASSWORD);
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL JDBC Driver not found", e);
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setFetchSize(FETCH_SIZE);
+            rs = pstmt.executeQuery();
+        } catch (SQLException e) {
+            close(pstmt, conn);
+            throw e;
+        }
+
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Error reading rows: " + e.getMessage(), e);
+                }
+            }
+        };
+        PreparedStatement statement = pstmt;
+        return StreamSupport.stream(rows, false).onClose(() -> close(rs, statement, conn));
+    }
+
+    /**
+     * Run a query and pass its rows to a callback one at a time through a
+     * server-side cursor.
+     *
+     * @param sql Query to run
+     * @param mapper Maps one row
+     * @param callback Receives every mapped row
+     * @return Number of rows read
+     * @throws SQLException If the query fails or the callback throws
+     */
+    public static <T> long forEach(String sql, RowMapper<T> mapper, RowCallback<T> callback) throws SQLException {
+        long count = 0;
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setFetchSize(FETCH_SIZE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    callback.accept(mapper.map(rs));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Fetch one page of a listing with keyset ("seek") pagination. Rows are
+     * ordered by the sort column, then id, and the page starts right after the
+     * given key. With an index on {@code (sortColumn, id)} the query seeks
+     * straight to the key and reads only {@code pageSize} rows, so a deep page
+     * costs the same as the first one, unlike {@code LIMIT ... OFFSET}.
+     *
+     * @param select Query selecting the columns from one table, without WHERE or ORDER BY
+     * @param sortColumn Column the listing is sorted by
+     * @param afterKey Sort key of the last row of the previous page, or {@code null} for the first page
+     * @param afterId Id of the last row of the previous page; ignored for the first page
+     * @param pageSize Maximum number of rows to return
+     * @param mapper Maps one row
+     * @return Rows of the page; fewer than {@code pageSize} on the last page
+     * @throws SQLException If there's a database error
+     */
+    public static <T> List<T> fetchPage(String select, String sortColumn, String afterKey, int afterId,
+                                        int pageSize, RowMapper<T> mapper) throws SQLException {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        String sql = select
+                + (afterKey == null ? "" : " WHERE (" + sortColumn + " > ? OR (" + sortColumn + " = ? AND id > ?))")
+                + " ORDER BY " + sortColumn + ", id LIMIT ?";
+
+        List<T> page = new ArrayList<>(Math.min(pageSize, FETCH_SIZE));
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (afterKey != null) {
+                pstmt.setString(index++, afterKey);
+                pstmt.setString(index++, afterKey);
+                pstmt.setInt(index++, afterId);
+            }
+            pstmt.setInt(index, pageSize);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    page.add(mapper.map(rs));
+                }
+            }
         }
+        return page;
     }
 
     // Close database resources
@@ -34,34 +357,33 @@ public class Database {
         }
     }
 
-    // Run database migrations
+    // Bring the schema up to date on one connection; a current schema costs one query
     public static void runMigrations() {
-        createUsersTable();
-        createJobsTable();
-        createSeekersTable();
-        createItemsTable();
-        
-        // Insert admin user if no users exist
-        if (isUsersEmpty()) {
-            insertSampleData();
-        }
-        
-        // Insert sample items if items table is empty
-        if (isItemsEmpty()) {
-            insertSampleItems();
+        try (Connection conn = getConnection()) {
+            List<String> applied = new MigrationRunner().migrate(conn);
+            if (!applied.isEmpty()) {
+                System.out.println("Applied migrations: " + String.join(", ", applied));
+                // Migrations may have written rows behind the caches
+                userCache.invalidateAll();
+                jobCache.invalidateAll();
+                seekerCache.invalidateAll();
+                itemCache.invalidateAll();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error running migrations: " + e.getMessage());
         }
     }
 
     // Check if users table is empty
     public static boolean isUsersEmpty() {
-        String sql = "SELECT COUNT(*) AS count FROM users";
+        String sql = "SELECT COUNT(*) FROM users";
         
         try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
             if (rs.next()) {
-                return rs.getInt("count") == 0;
+                return rs.getInt(1) == 0;
             }
         } catch (SQLException e) {
             System.err.println("Error checking if users table is empty: " + e.getMessage());
@@ -72,14 +394,14 @@ public class Database {
 
     // Check if items table is empty
     public static boolean isItemsEmpty() {
-        String sql = "SELECT COUNT(*) AS count FROM items";
+        String sql = "SELECT COUNT(*) FROM items";
         
         try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql);
              ResultSet rs = pstmt.executeQuery()) {
             
             if (rs.next()) {
-                return rs.getInt("count") == 0;
+                return rs.getInt(1) == 0;
             }
         } catch (SQLException e) {
             System.err.println("Error checking if items table is empty: " + e.getMessage());
@@ -88,135 +410,6 @@ public class Database {
         return true;
     }
 
-    // Create users table
-    private static void createUsersTable() {
-        String sql = "CREATE TABLE IF NOT EXISTS users (" +
-                "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                "username VARCHAR(100) UNIQUE NOT NULL, " +
-                "password_hash VARCHAR(255) NOT NULL, " +
-                "role ENUM('admin','employer','seeker') NOT NULL DEFAULT 'seeker', " +
-                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                ")";
-                
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            System.err.println("Error creating users table: " + e.getMessage());
-        }
-    }
-
-    // Create jobs table
-    private static void createJobsTable() {
-        String sql = "CREATE TABLE IF NOT EXISTS jobs (" +
-                "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                "title VARCHAR(150) NOT NULL, " +
-                "description TEXT, " +
-                "skills TEXT, " +
-                "created_by INT, " +
-                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                "FOREIGN KEY (created_by) REFERENCES users(id)" +
-                ")";
-                
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            System.err.println("Error creating jobs table: " + e.getMessage());
-        }
-    }
-
-    // Create seekers table
-    private static void createSeekersTable() {
-        String sql = "CREATE TABLE IF NOT EXISTS seekers (" +
-                "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                "name VARCHAR(150) NOT NULL, " +
-                "email VARCHAR(150) UNIQUE, " +
-                "skills TEXT, " +
-                "created_by INT, " +
-                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                "FOREIGN KEY (created_by) REFERENCES users(id)" +
-                ")";
-                
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            System.err.println("Error creating seekers table: " + e.getMessage());
-        }
-    }
-
-    // Create items table
-    private static void createItemsTable() {
-        String sql = "CREATE TABLE IF NOT EXISTS items (" +
-                "id INT AUTO_INCREMENT PRIMARY KEY, " +
-                "name VARCHAR(255) NOT NULL, " +
-                "description TEXT, " +
-                "quantity INT DEFAULT 0, " +
-                "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
-                ")";
-                
-        try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement()) {
-            stmt.execute(sql);
-        } catch (SQLException e) {
-            System.err.println("Error creating items table: " + e.getMessage());
-        }
-    }
-
-    // Insert sample data
-    private static void insertSampleData() {
-        try {
-            // Insert admin user (password: admin123)
-            String adminPasswordHash = hashPassword("admin123");
-            insertUser(new User("admin", adminPasswordHash, "admin"));
-            
-            // Insert sample jobs
-            insertJob(new Job("Java Developer", "Develop Java applications", "Java, Spring, Hibernate, MySQL", 1));
-            insertJob(new Job("Frontend Developer", "Build user interfaces", "JavaScript, HTML, CSS, React", 1));
-            insertJob(new Job("DevOps Engineer", "Manage infrastructure", "Docker, Kubernetes, AWS, Jenkins", 1));
-            
-            // Insert sample seekers
-            insertSeeker(new Seeker("Alice Johnson", "alice@example.com", "Java, Spring, MySQL, REST APIs", 1));
-            insertSeeker(new Seeker("Bob Smith", "bob@example.com", "JavaScript, React, CSS, Node.js", 1));
-            insertSeeker(new Seeker("Carol Davis", "carol@example.com", "Docker, AWS, Python, Terraform", 1));
-            
-        } catch (SQLException e) {
-            System.err.println("Error inserting sample data: " + e.getMessage());
-        }
-    }
-
-    // Insert sample items
-    private static void insertSampleItems() {
-        try {
-            // Insert sample items
-            try (Connection conn = getConnection();
-                 PreparedStatement pstmt = conn.prepareStatement(
-                         "INSERT INTO items (name, description, quantity) VALUES (?, ?, ?)")) {
-                
-                // Item 1
-                pstmt.setString(1, "Seed 1");
-                pstmt.setString(2, "First seed item for testing");
-                pstmt.setInt(3, 1);
-                pstmt.executeUpdate();
-                
-                // Item 2
-                pstmt.setString(1, "Seed 2");
-                pstmt.setString(2, "Second seed item for testing");
-                pstmt.setInt(3, 2);
-                pstmt.executeUpdate();
-                
-                // Item 3
-                pstmt.setString(1, "Seed 3");
-                pstmt.setString(2, "Third seed item for testing");
-                pstmt.setInt(3, 3);
-                pstmt.executeUpdate();
-            }
-        } catch (SQLException e) {
-            System.err.println("Error inserting sample items: " + e.getMessage());
-        }
-    }
-
     // Hash password using SHA-256
     public static String hashPassword(String password) {
         try {
@@ -256,11 +449,37 @@ public class Database {
                     user.setId(rs.getInt(1));
                 }
             }
+        } finally {
+            userCache.invalidateAll();
+        }
+    }
+
+    // Insert users in one transaction and set their generated IDs
+    public static int[] insertUsers(List<User> users) throws SQLException {
+        String sql = "INSERT INTO users(username, password_hash, role) VALUES(?, ?, ?)";
+        
+        int[] ids;
+        try {
+            ids = executeBatch(sql, users, (pstmt, user) -> {
+                pstmt.setString(1, user.getUsername());
+                pstmt.setString(2, user.getPasswordHash());
+                pstmt.setString(3, user.getRole());
+            }, true);
+            for (int i = 0; i < ids.length; i++) {
+                users.get(i).setId(ids[i]);
+            }
+        } finally {
+            userCache.invalidateAll();
         }
+        return ids;
     }
 
     public static User getUserByUsername(String username) throws SQLException {
-        String sql = "SELECT id, username, password_hash, role, created_at FROM users WHERE username = ?";
+        return userCache.get("username:" + username, () -> loadUserByUsername(username));
+    }
+
+    private static User loadUserByUsername(String username) throws SQLException {
+        String sql = RowMappers.USER_ROW.selectFrom() + " WHERE username = ?";
         
         try (Connection conn = getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
@@ -268,13 +487,7 @@ public class Database {
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    User user = new User();
-                    user.setId(rs.getInt("id"));
-                    user.setUsername(rs.getString("username"));
-                    user.setPasswordHash(rs.getString("password_hash"));
-                    user.setRole(rs.getString("role"));
-                    user.setCreatedAt(rs.getTimestamp("created_at"));
-                    return user;
+                    return RowMappers.USER_ROW.map(rs);
                 }
             }
         }
@@ -283,21 +496,19 @@ public class Database {
     }
 
     public static List<User> getAllUsers() throws SQLException {
+        return new ArrayList<>(userCache.get("all", Database::loadAllUsers));
+    }
+
+    private static List<User> loadAllUsers() throws SQLException {
         List<User> users = new ArrayList<>();
-        String sql = "SELECT id, username, password_hash, role, created_at FROM users ORDER BY username";
+        String sql = RowMappers.USER_ROW.selectFrom() + " ORDER BY username";
         
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
-                User user = new User();
-                user.setId(rs.getInt("id"));
-                user.setUsername(rs.getString("username"));
-                user.setPasswordHash(rs.getString("password_hash"));
-                user.setRole(rs.getString("role"));
-                user.setCreatedAt(rs.getTimestamp("created_at"));
-                users.add(user);
+                users.add(RowMappers.USER_ROW.map(rs));
             }
         }
         
@@ -314,6 +525,8 @@ public class Database {
             pstmt.setString(3, user.getRole());
             pstmt.setInt(4, user.getId());
             pstmt.executeUpdate();
+        } finally {
+            userCache.invalidateAll();
         }
     }
 
@@ -324,6 +537,8 @@ public class Database {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, userId);
             pstmt.executeUpdate();
+        } finally {
+            userCache.invalidateAll();
         }
     }
 
@@ -331,56 +546,231 @@ public class Database {
     public static void insertJob(Job job) throws SQLException {
         String sql = "INSERT INTO jobs(title, description, skills, created_by) VALUES(?, ?, ?, ?)";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, job.getTitle());
-            pstmt.setString(2, job.getDescription());
-            pstmt.setString(3, job.getSkills());
-            pstmt.setInt(4, job.getCreatedBy());
-            pstmt.executeUpdate();
-            
-            // Get generated ID
-            try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    job.setId(rs.getInt(1));
+        try {
+            inTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    pstmt.setString(1, job.getTitle());
+                    pstmt.setString(2, job.getDescription());
+                    pstmt.setString(3, job.getSkills());
+                    pstmt.setInt(4, job.getCreatedBy());
+                    pstmt.executeUpdate();
+                    
+                    // Get generated ID
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        if (rs.next()) {
+                            job.setId(rs.getInt(1));
+                        }
+                    }
+                }
+                syncJobSkills(conn, Collections.singletonList(job), false);
+                return null;
+            });
+        } finally {
+            jobCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.jobSaved(job);
+        }
+    }
+
+    // Insert jobs in one transaction and set their generated IDs
+    public static int[] insertJobs(List<Job> jobs) throws SQLException {
+        String sql = "INSERT INTO jobs(title, description, skills, created_by) VALUES(?, ?, ?, ?)";
+        
+        int[] ids;
+        try {
+            ids = inTransaction(conn -> {
+                int[] keys = executeBatch(conn, sql, jobs, (pstmt, job) -> {
+                    pstmt.setString(1, job.getTitle());
+                    pstmt.setString(2, job.getDescription());
+                    pstmt.setString(3, job.getSkills());
+                    pstmt.setInt(4, job.getCreatedBy());
+                }, true);
+                for (int i = 0; i < keys.length; i++) {
+                    jobs.get(i).setId(keys[i]);
                 }
+                syncJobSkills(conn, jobs, false);
+                return keys;
+            });
+        } finally {
+            jobCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            for (Job job : jobs) {
+                listener.jobSaved(job);
             }
         }
+        return ids;
     }
 
     public static List<Job> getAllJobs() throws SQLException {
+        return new ArrayList<>(jobCache.get("all", Database::loadAllJobs));
+    }
+
+    private static List<Job> loadAllJobs() throws SQLException {
         List<Job> jobs = new ArrayList<>();
-        String sql = "SELECT id, title, description, skills, created_by, created_at FROM jobs ORDER BY title";
+        String sql = RowMappers.JOB_ROW.selectFrom() + " ORDER BY title";
         
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
-                Job job = new Job();
-                job.setId(rs.getInt("id"));
-                job.setTitle(rs.getString("title"));
-                job.setDescription(rs.getString("description"));
-                job.setSkills(rs.getString("skills"));
-                job.setCreatedBy(rs.getInt("created_by"));
-                job.setCreatedAt(rs.getTimestamp("created_at"));
-                jobs.add(job);
+                jobs.add(RowMappers.JOB_ROW.map(rs));
             }
         }
         
         return jobs;
     }
 
+    /**
+     * Get one page of jobs ordered by title, then id.
+     *
+     * @param afterTitle Title of the last job of the previous page, or {@code null} for the first page
+     * @param afterId Id of the last job of the previous page
+     * @param pageSize Maximum number of jobs to return
+     * @return Jobs of the page
+     * @throws SQLException If there's a database error
+     */
+    public static List<Job> getJobsPage(String afterTitle, int afterId, int pageSize) throws SQLException {
+        return new ArrayList<>(jobCache.get(EntityCache.pageKey(afterTitle, afterId, pageSize),
+                () -> fetchPage(RowMappers.JOB_ROW.selectFrom(), "title", afterTitle, afterId, pageSize,
+                        RowMappers.JOB_ROW)));
+    }
+
+    /**
+     * Search jobs by keywords through the FULLTEXT index on title, description
+     * and skills. Every keyword must appear in a job, as a word or a word
+     * prefix; results are ranked by relevance, then id. Keywords shorter than
+     * {@code MIN_SEARCH_TERM} characters are not indexed by MySQL and are
+     * ignored. Pages are numbered from 0 and skipped with OFFSET, which is
+     * cheap for the first pages a user browses.
+     *
+     * @param keywords Search text as typed by the user
+     * @param page Page number, starting at 0
+     * @param pageSize Maximum number of jobs to return
+     * @return Jobs of the page, most relevant first; empty if no keyword is searchable
+     * @throws SQLException If there's a database error
+     */
+    public static List<Job> searchJobs(String keywords, int page, int pageSize) throws SQLException {
+        if (page < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page " + page + " of size " + pageSize);
+        }
+        String against = toBooleanQuery(keywords);
+        if (against.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = RowMappers.JOB_ROW.selectFrom()
+                + " WHERE MATCH(title, description, skills) AGAINST (? IN BOOLEAN MODE) "
+                + "ORDER BY MATCH(title, description, skills) AGAINST (? IN BOOLEAN MODE) DESC, id "
+                + "LIMIT ? OFFSET ?";
+        return new ArrayList<>(jobCache.get("search:" + page + ":" + pageSize + ":" + against, () -> {
+            List<Job> jobs = new ArrayList<>();
+            try (Connection conn = getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, against);
+                pstmt.setString(2, against);
+                pstmt.setInt(3, pageSize);
+                pstmt.setLong(4, (long) page * pageSize);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        jobs.add(RowMappers.JOB_ROW.map(rs));
+                    }
+                }
+            }
+            return jobs;
+        }));
+    }
+
+    /**
+     * Turn search text into a boolean-mode FULLTEXT query requiring every
+     * keyword as a prefix. Operators typed by the user are dropped, so the
+     * text can never form an invalid query. Words are split on symbols the way
+     * the FULLTEXT parser indexes them, so "Node.js" searches for "node", while
+     * "C++" and "C#" leave no word long enough to search for.
+     *
+     * @param keywords Search text
+     * @return Boolean-mode query, empty if no keyword is searchable
+     */
+    static String toBooleanQuery(String keywords) {
+        if (keywords == null) {
+            return "";
+        }
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : keywords.toLowerCase().split("[^\\p{L}\\p{N}_]+")) {
+            if (term.length() >= MIN_SEARCH_TERM) {
+                terms.add("+" + term + "*");
+            }
+        }
+        return String.join(" ", terms);
+    }
+
+    // Stream all jobs in id order; close the stream to release its connection
+    public static Stream<Job> streamJobs() throws SQLException {
+        return stream(RowMappers.JOB_ROW.selectFrom() + " ORDER BY id", RowMappers.JOB_ROW);
+    }
+
+    // Pass all jobs in id order to a callback, one at a time
+    public static long forEachJob(RowCallback<Job> callback) throws SQLException {
+        return forEachJob(RowMappers.JOB_ROW, callback);
+    }
+
+    // Pass all jobs in id order to a callback, reading only the projected columns
+    public static long forEachJob(EntityMapper.Projection<Job> projection, RowCallback<Job> callback)
+            throws SQLException {
+        return forEach(projection.selectFrom() + " ORDER BY id", projection, callback);
+    }
+
     public static void updateJob(Job job) throws SQLException {
         String sql = "UPDATE jobs SET title = ?, description = ?, skills = ? WHERE id = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, job.getTitle());
-            pstmt.setString(2, job.getDescription());
-            pstmt.setString(3, job.getSkills());
-            pstmt.setInt(4, job.getId());
-            pstmt.executeUpdate();
+        try {
+            inTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, job.getTitle());
+                    pstmt.setString(2, job.getDescription());
+                    pstmt.setString(3, job.getSkills());
+                    pstmt.setInt(4, job.getId());
+                    pstmt.executeUpdate();
+                }
+                syncJobSkills(conn, Collections.singletonList(job), true);
+                return null;
+            });
+        } finally {
+            jobCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.jobSaved(job);
+        }
+    }
+
+    // Update jobs in one transaction
+    public static void updateJobs(List<Job> jobs) throws SQLException {
+        String sql = "UPDATE jobs SET title = ?, description = ?, skills = ? WHERE id = ?";
+        
+        try {
+            inTransaction(conn -> {
+                executeBatch(conn, sql, jobs, (pstmt, job) -> {
+                    pstmt.setString(1, job.getTitle());
+                    pstmt.setString(2, job.getDescription());
+                    pstmt.setString(3, job.getSkills());
+                    pstmt.setInt(4, job.getId());
+                }, false);
+                syncJobSkills(conn, jobs, true);
+                return null;
+            });
+        } finally {
+            jobCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            for (Job job : jobs) {
+                listener.jobSaved(job);
+            }
         }
     }
 
@@ -391,6 +781,12 @@ public class Database {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, jobId);
             pstmt.executeUpdate();
+        } finally {
+            jobCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.jobDeleted(jobId);
         }
     }
 
@@ -398,56 +794,163 @@ public class Database {
     public static void insertSeeker(Seeker seeker) throws SQLException {
         String sql = "INSERT INTO seekers(name, email, skills, created_by) VALUES(?, ?, ?, ?)";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, seeker.getName());
-            pstmt.setString(2, seeker.getEmail());
-            pstmt.setString(3, seeker.getSkills());
-            pstmt.setInt(4, seeker.getCreatedBy());
-            pstmt.executeUpdate();
-            
-            // Get generated ID
-            try (ResultSet rs = pstmt.getGeneratedKeys()) {
-                if (rs.next()) {
-                    seeker.setId(rs.getInt(1));
+        try {
+            inTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                    pstmt.setString(1, seeker.getName());
+                    pstmt.setString(2, seeker.getEmail());
+                    pstmt.setString(3, seeker.getSkills());
+                    pstmt.setInt(4, seeker.getCreatedBy());
+                    pstmt.executeUpdate();
+                    
+                    // Get generated ID
+                    try (ResultSet rs = pstmt.getGeneratedKeys()) {
+                        if (rs.next()) {
+                            seeker.setId(rs.getInt(1));
+                        }
+                    }
+                }
+                syncSeekerSkills(conn, Collections.singletonList(seeker), false);
+                return null;
+            });
+        } finally {
+            seekerCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.seekerSaved(seeker);
+        }
+    }
+
+    // Insert seekers in one transaction and set their generated IDs
+    public static int[] insertSeekers(List<Seeker> seekers) throws SQLException {
+        String sql = "INSERT INTO seekers(name, email, skills, created_by) VALUES(?, ?, ?, ?)";
+        
+        int[] ids;
+        try {
+            ids = inTransaction(conn -> {
+                int[] keys = executeBatch(conn, sql, seekers, (pstmt, seeker) -> {
+                    pstmt.setString(1, seeker.getName());
+                    pstmt.setString(2, seeker.getEmail());
+                    pstmt.setString(3, seeker.getSkills());
+                    pstmt.setInt(4, seeker.getCreatedBy());
+                }, true);
+                for (int i = 0; i < keys.length; i++) {
+                    seekers.get(i).setId(keys[i]);
                 }
+                syncSeekerSkills(conn, seekers, false);
+                return keys;
+            });
+        } finally {
+            seekerCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            for (Seeker seeker : seekers) {
+                listener.seekerSaved(seeker);
             }
         }
+        return ids;
     }
 
     public static List<Seeker> getAllSeekers() throws SQLException {
+        return new ArrayList<>(seekerCache.get("all", Database::loadAllSeekers));
+    }
+
+    private static List<Seeker> loadAllSeekers() throws SQLException {
         List<Seeker> seekers = new ArrayList<>();
-        String sql = "SELECT id, name, email, skills, created_by, created_at FROM seekers ORDER BY name";
+        String sql = RowMappers.SEEKER_ROW.selectFrom() + " ORDER BY name";
         
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
-                Seeker seeker = new Seeker();
-                seeker.setId(rs.getInt("id"));
-                seeker.setName(rs.getString("name"));
-                seeker.setEmail(rs.getString("email"));
-                seeker.setSkills(rs.getString("skills"));
-                seeker.setCreatedBy(rs.getInt("created_by"));
-                seeker.setCreatedAt(rs.getTimestamp("created_at"));
-                seekers.add(seeker);
+                seekers.add(RowMappers.SEEKER_ROW.map(rs));
             }
         }
         
         return seekers;
     }
 
+    /**
+     * Get one page of seekers ordered by name, then id.
+     *
+     * @param afterName Name of the last seeker of the previous page, or {@code null} for the first page
+     * @param afterId Id of the last seeker of the previous page
+     * @param pageSize Maximum number of seekers to return
+     * @return Seekers of the page
+     * @throws SQLException If there's a database error
+     */
+    public static List<Seeker> getSeekersPage(String afterName, int afterId, int pageSize) throws SQLException {
+        return new ArrayList<>(seekerCache.get(EntityCache.pageKey(afterName, afterId, pageSize),
+                () -> fetchPage(RowMappers.SEEKER_ROW.selectFrom(), "name", afterName, afterId, pageSize,
+                        RowMappers.SEEKER_ROW)));
+    }
+
+    // Stream all seekers in id order; close the stream to release its connection
+    public static Stream<Seeker> streamSeekers() throws SQLException {
+        return stream(RowMappers.SEEKER_ROW.selectFrom() + " ORDER BY id", RowMappers.SEEKER_ROW);
+    }
+
+    // Pass all seekers in id order to a callback, one at a time
+    public static long forEachSeeker(RowCallback<Seeker> callback) throws SQLException {
+        return forEachSeeker(RowMappers.SEEKER_ROW, callback);
+    }
+
+    // Pass all seekers in id order to a callback, reading only the projected columns
+    public static long forEachSeeker(EntityMapper.Projection<Seeker> projection, RowCallback<Seeker> callback)
+            throws SQLException {
+        return forEach(projection.selectFrom() + " ORDER BY id", projection, callback);
+    }
+
     public static void updateSeeker(Seeker seeker) throws SQLException {
         String sql = "UPDATE seekers SET name = ?, email = ?, skills = ? WHERE id = ?";
         
-        try (Connection conn = getConnection();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            pstmt.setString(1, seeker.getName());
-            pstmt.setString(2, seeker.getEmail());
-            pstmt.setString(3, seeker.getSkills());
-            pstmt.setInt(4, seeker.getId());
-            pstmt.executeUpdate();
+        try {
+            inTransaction(conn -> {
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    pstmt.setString(1, seeker.getName());
+                    pstmt.setString(2, seeker.getEmail());
+                    pstmt.setString(3, seeker.getSkills());
+                    pstmt.setInt(4, seeker.getId());
+                    pstmt.executeUpdate();
+                }
+                syncSeekerSkills(conn, Collections.singletonList(seeker), true);
+                return null;
+            });
+        } finally {
+            seekerCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.seekerSaved(seeker);
+        }
+    }
+
+    // Update seekers in one transaction
+    public static void updateSeekers(List<Seeker> seekers) throws SQLException {
+        String sql = "UPDATE seekers SET name = ?, email = ?, skills = ? WHERE id = ?";
+        
+        try {
+            inTransaction(conn -> {
+                executeBatch(conn, sql, seekers, (pstmt, seeker) -> {
+                    pstmt.setString(1, seeker.getName());
+                    pstmt.setString(2, seeker.getEmail());
+                    pstmt.setString(3, seeker.getSkills());
+                    pstmt.setInt(4, seeker.getId());
+                }, false);
+                syncSeekerSkills(conn, seekers, true);
+                return null;
+            });
+        } finally {
+            seekerCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            for (Seeker seeker : seekers) {
+                listener.seekerSaved(seeker);
+            }
         }
     }
 
@@ -458,6 +961,224 @@ public class Database {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, seekerId);
             pstmt.executeUpdate();
+        } finally {
+            seekerCache.invalidateAll();
+        }
+        
+        for (ChangeListener listener : changeListeners) {
+            listener.seekerDeleted(seekerId);
+        }
+    }
+
+    // Get seekers sharing at least one skill with a job, through the skill indexes
+    public static List<Seeker> getSeekersSharingSkill(int jobId) throws SQLException {
+        String sql = "SELECT " + RowMappers.SEEKER_ROW.columns("s") + " FROM seekers s "
+                + "WHERE s.id IN (SELECT ss.seeker_id FROM job_skills js "
+                + "JOIN seeker_skills ss ON ss.skill_id = js.skill_id WHERE js.job_id = ?) ORDER BY s.id";
+        List<Seeker> seekers = new ArrayList<>();
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, jobId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    seekers.add(RowMappers.SEEKER_ROW.map(rs));
+                }
+            }
+        }
+        return seekers;
+    }
+
+    // Get jobs sharing at least one skill with a seeker, through the skill indexes
+    public static List<Job> getJobsSharingSkill(int seekerId) throws SQLException {
+        String sql = "SELECT " + RowMappers.JOB_ROW.columns("j") + " FROM jobs j "
+                + "WHERE j.id IN (SELECT js.job_id FROM seeker_skills ss "
+                + "JOIN job_skills js ON js.skill_id = ss.skill_id WHERE ss.seeker_id = ?) ORDER BY j.id";
+        List<Job> jobs = new ArrayList<>();
+        try (Connection conn = getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, seekerId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    jobs.add(RowMappers.JOB_ROW.map(rs));
+                }
+            }
+        }
+        return jobs;
+    }
+
+    private static void syncJobSkills(Connection conn, List<Job> jobs, boolean replace) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        List<String> skills = new ArrayList<>();
+        for (Job job : jobs) {
+            ids.add(job.getId());
+            skills.add(job.getSkills());
+        }
+        int[] counts = linkSkills(conn, "job_skills", "job_id", ids, skills, replace);
+        updateSkillCounts(conn, "jobs", ids, counts);
+    }
+
+    private static void syncSeekerSkills(Connection conn, List<Seeker> seekers, boolean replace) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        List<String> skills = new ArrayList<>();
+        for (Seeker seeker : seekers) {
+            ids.add(seeker.getId());
+            skills.add(seeker.getSkills());
+        }
+        int[] counts = linkSkills(conn, "seeker_skills", "seeker_id", ids, skills, replace);
+        updateSkillCounts(conn, "seekers", ids, counts);
+    }
+
+    /**
+     * Write the skill links of jobs or seekers, as part of the caller's
+     * transaction. Skills are parsed with {@link SkillDictionary#parse}, which skips
+     * names longer than the column just as in-memory matching does.
+     *
+     * @param conn Connection to run on
+     * @param linkTable {@code job_skills} or {@code seeker_skills}
+     * @param ownerColumn {@code job_id} or {@code seeker_id}
+     * @param ownerIds Ids of the jobs or seekers
+     * @param texts Skills string per owner, in the same order
+     * @param replace Whether to drop the owners' existing links first
+     * @return Number of skills linked per owner
+     * @throws SQLException If there's a database error
+     */
+    private static int[] linkSkills(Connection conn, String linkTable, String ownerColumn,
+                                   List<Integer> ownerIds, List<String> texts, boolean replace) throws SQLException {
+        List<List<String>> parsed = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (String text : texts) {
+            List<String> skills = SkillDictionary.parse(text);
+            parsed.add(skills);
+            names.addAll(skills);
+        }
+        Map<String, Integer> skillIds = skillIds(conn, names);
+
+        if (replace) {
+            executeBatch(conn, "DELETE FROM " + linkTable + " WHERE " + ownerColumn + " = ?", ownerIds,
+                    (pstmt, id) -> pstmt.setInt(1, id), false);
+        }
+
+        List<int[]> links = new ArrayList<>();
+        for (int i = 0; i < ownerIds.size(); i++) {
+            for (String skill : parsed.get(i)) {
+                links.add(new int[] {ownerIds.get(i), skillIds.get(skill)});
+            }
+        }
+        executeBatch(conn, "INSERT INTO " + linkTable + "(" + ownerColumn + ", skill_id) VALUES(?, ?) "
+                        + "ON DUPLICATE KEY UPDATE skill_id = skill_id",
+                links, (pstmt, link) -> {
+                    pstmt.setInt(1, link[0]);
+                    pstmt.setInt(2, link[1]);
+                }, false);
+
+        int[] counts = new int[ownerIds.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = parsed.get(i).size();
+        }
+        return counts;
+    }
+
+    // Store the skill set sizes that SQL matching divides by
+    private static void updateSkillCounts(Connection conn, String table, List<Integer> ids, int[] counts)
+            throws SQLException {
+        List<int[]> rows = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            rows.add(new int[] {counts[i], ids.get(i)});
+        }
+        executeBatch(conn, "UPDATE " + table + " SET skill_count = ? WHERE id = ?", rows, (pstmt, row) -> {
+            pstmt.setInt(1, row[0]);
+            pstmt.setInt(2, row[1]);
+        }, false);
+    }
+
+    // Get the ids of skill names, adding the names that are not stored yet
+    private static Map<String, Integer> skillIds(Connection conn, List<String> names) throws SQLException {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(names));
+        Map<String, Integer> ids = new HashMap<>();
+        selectSkillIds(conn, distinct, ids, false);
+
+        List<String> missing = new ArrayList<>();
+        for (String name : distinct) {
+            if (!ids.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        if (!missing.isEmpty()) {
+            executeBatch(conn, "INSERT INTO skills(name) VALUES(?) ON DUPLICATE KEY UPDATE id = id", missing,
+                    (pstmt, name) -> pstmt.setString(1, name), false);
+            // Another writer may have committed the same name after our snapshot was taken, in which
+            // case the insert was a no-op and a plain read would still miss it; a locking read sees it
+            selectSkillIds(conn, missing, ids, true);
+            for (String name : missing) {
+                if (!ids.containsKey(name)) {
+                    throw new SQLException("Skill " + name + " could not be stored");
+                }
+            }
+        }
+        return ids;
+    }
+
+    // Read the ids of stored skill names; a locking read sees rows committed after the snapshot
+    private static void selectSkillIds(Connection conn, List<String> names, Map<String, Integer> ids,
+                                       boolean locking) throws SQLException {
+        for (int start = 0; start < names.size(); start += SKILL_LOOKUP_SIZE) {
+            List<String> chunk = names.subList(start, Math.min(names.size(), start + SKILL_LOOKUP_SIZE));
+            String sql = "SELECT id, name FROM skills WHERE name IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")"
+                    + (locking ? " FOR SHARE" : "");
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    pstmt.setString(i + 1, chunk.get(i));
+                }
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        ids.put(rs.getString(2), rs.getInt(1));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fill the skill tables from the skills strings of every job and seeker.
+     * Rows are read in id order in chunks, each chunk linked in its own
+     * transaction, so a large table is never held in memory or locked at once.
+     * Running it again rewrites the same links. Skill counts are left to the
+     * next migration, which adds their columns.
+     *
+     * @param conn Connection in auto-commit mode; it is not closed
+     * @throws SQLException If there's a database error
+     */
+    static void backfillSkills(Connection conn) throws SQLException {
+        backfillSkills(conn, "jobs", "job_skills", "job_id");
+        backfillSkills(conn, "seekers", "seeker_skills", "seeker_id");
+    }
+
+    private static void backfillSkills(Connection conn, String table, String linkTable, String ownerColumn)
+            throws SQLException {
+        String sql = "SELECT id, skills FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?";
+        int afterId = 0;
+        while (true) {
+            List<Integer> ids = new ArrayList<>();
+            List<String> skills = new ArrayList<>();
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setInt(1, afterId);
+                pstmt.setInt(2, BACKFILL_CHUNK_SIZE);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getInt(1));
+                        skills.add(rs.getString(2));
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                return;
+            }
+            inTransaction(conn, c -> {
+                linkSkills(c, linkTable, ownerColumn, ids, skills, true);
+                return null;
+            });
+            afterId = ids.get(ids.size() - 1);
         }
     }
-}
\ No newline at end of file
+}
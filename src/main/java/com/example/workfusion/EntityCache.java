@@ -0,0 +1,167 @@
+package com.example.workfusion;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-through cache for query results of one entity type, such as a listing
+ * or a row looked up by id.
+ * <p>
+ * Entries are evicted least recently used first once the cache holds its
+ * maximum number of entries, and expire after a fixed time to live, so rows
+ * written by another process are picked up eventually. Every write to the
+ * entity's table must call {@link #invalidateAll()}: results depend on many
+ * rows, so one write drops every entry. A load that was running while the
+ * cache was invalidated is returned to its caller but not stored, so a stale
+ * result never outlives the write that made it stale.
+ * <p>
+ * Loads run outside the cache lock; two callers missing the same key at the
+ * same time both query the database.
+ */
+public class EntityCache {
+
+    // Stored in place of null so that "not found" results are cached too
+    private static final Object NULL = new Object();
+
+    private final String name;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Entry> entries;
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * Loads the value of a missing key.
+     */
+    public interface Loader<V> {
+        V load() throws SQLException;
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param name Name used in {@link #toString()}
+     * @param maxEntries Entries kept before the least recently used is evicted
+     * @param ttlMillis Time an entry stays valid after it was loaded
+     */
+    public EntityCache(String name, int maxEntries, long ttlMillis) {
+        if (maxEntries < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("Invalid cache bounds: " + maxEntries + " entries, ttl " + ttlMillis);
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > EntityCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the cached value of a key, loading and storing it on a miss.
+     *
+     * @param key Key of the query, unique within this cache
+     * @param loader Runs the query on a miss
+     * @return The cached or loaded value
+     * @throws SQLException If the loader fails; nothing is stored then
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String key, Loader<V> loader) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits++;
+                return entry.value == NULL ? null : (V) entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.load();
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry(value == null ? NULL : value, System.nanoTime() + ttlNanos));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Build the key of a keyset page, see {@link Database#fetchPage}.
+     *
+     * @param afterKey Sort key the page starts after, or {@code null} for the first page
+     * @param afterId Id the page starts after
+     * @param pageSize Maximum number of rows of the page
+     * @return Key unique to the page
+     */
+    public static String pageKey(String afterKey, int afterId, int pageSize) {
+        // The sort key goes last, so no key value can make two pages collide
+        return afterKey == null ? "page:" + pageSize : "page:" + pageSize + ":" + afterId + ":" + afterKey;
+    }
+
+    /**
+     * Drop every entry. Loads still running are not stored.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        generation++;
+        invalidations++;
+    }
+
+    public String getName() { return name; }
+    public int getMaxEntries() { return maxEntries; }
+    public long getTtlMillis() { return ttlNanos / 1_000_000; }
+
+    // Cache metrics
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getEvictions() { return evictions; }
+    public synchronized long getExpirations() { return expirations; }
+    public synchronized long getInvalidations() { return invalidations; }
+
+    /**
+     * Get the share of lookups answered from the cache.
+     *
+     * @return Hits divided by lookups, or 0 before the first lookup
+     */
+    public synchronized double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("EntityCache[%s: size=%d, hits=%d, misses=%d, hit ratio=%.1f%%, evictions=%d,"
+                        + " expirations=%d, invalidations=%d]",
+                name, entries.size(), hits, misses, getHitRatio() * 100, evictions, expirations, invalidations);
+    }
+}
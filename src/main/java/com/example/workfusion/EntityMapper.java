@@ -0,0 +1,217 @@
+package com.example.workfusion;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Maps the columns of one table onto an entity class.
+ * <p>
+ * A mapper knows which setter fills each column. A {@link Projection} picks the
+ * columns a query selects, writes its select list, and resolves every column to
+ * its ordinal and setter once, when the projection is built. Mapping a row
+ * then reads each column by index through a precompiled array of readers, with
+ * no per-row name lookups and no reflection. Projections are immutable and
+ * meant to be kept in constants next to the queries that use them; columns
+ * that are not projected keep the entity's default values.
+ */
+public final class EntityMapper<T> {
+
+    /**
+     * Reads the column at an ordinal into an entity.
+     */
+    interface ColumnReader<T> {
+        void read(ResultSet rs, int column, T entity) throws SQLException;
+    }
+
+    private final String table;
+    private final Supplier<T> factory;
+    private final Map<String, ColumnReader<T>> columns;
+
+    private EntityMapper(String table, Supplier<T> factory, Map<String, ColumnReader<T>> columns) {
+        this.table = table;
+        this.factory = factory;
+        this.columns = columns;
+    }
+
+    /**
+     * Start describing the columns of a table.
+     *
+     * @param table Table name
+     * @param factory Creates an empty entity
+     * @return Builder for the mapper
+     */
+    public static <T> Builder<T> of(String table, Supplier<T> factory) {
+        return new Builder<>(table, factory);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Get a projection of every mapped column, in the order they were declared.
+     *
+     * @return Projection of all columns
+     */
+    public Projection<T> all() {
+        return select(columns.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Get a projection of some columns.
+     *
+     * @param names Columns to select, in select list order
+     * @return Projection of the columns
+     * @throws IllegalArgumentException If a column is not mapped
+     */
+    public Projection<T> select(String... names) {
+        List<ColumnReader<T>> readers = new ArrayList<>(names.length);
+        for (String name : names) {
+            ColumnReader<T> reader = columns.get(name);
+            if (reader == null) {
+                throw new IllegalArgumentException("Column " + name + " is not mapped for " + table);
+            }
+            readers.add(reader);
+        }
+        return new Projection<>(this, names.clone(), readers);
+    }
+
+    /**
+     * Builder declaring the column setters of a mapper.
+     */
+    public static final class Builder<T> {
+        private final String table;
+        private final Supplier<T> factory;
+        private final Map<String, ColumnReader<T>> columns = new LinkedHashMap<>();
+
+        private Builder(String table, Supplier<T> factory) {
+            this.table = table;
+            this.factory = factory;
+        }
+
+        public Builder<T> intColumn(String name, ObjIntConsumer<T> setter) {
+            return column(name, (rs, column, entity) -> setter.accept(entity, rs.getInt(column)));
+        }
+
+        public Builder<T> stringColumn(String name, BiConsumer<T, String> setter) {
+            return column(name, (rs, column, entity) -> setter.accept(entity, rs.getString(column)));
+        }
+
+        public Builder<T> timestampColumn(String name, BiConsumer<T, Timestamp> setter) {
+            return column(name, (rs, column, entity) -> setter.accept(entity, rs.getTimestamp(column)));
+        }
+
+        private Builder<T> column(String name, ColumnReader<T> reader) {
+            if (columns.putIfAbsent(name, reader) != null) {
+                throw new IllegalArgumentException("Column " + name + " is mapped twice for " + table);
+            }
+            return this;
+        }
+
+        public EntityMapper<T> build() {
+            return new EntityMapper<>(table, factory, new LinkedHashMap<>(columns));
+        }
+    }
+
+    /**
+     * Precompiled mapper for a fixed list of columns of one table.
+     */
+    public static final class Projection<T> implements Database.RowMapper<T> {
+        private final EntityMapper<T> mapper;
+        private final String[] names;
+        private final ColumnReader<T>[] readers;
+
+        @SuppressWarnings("unchecked")
+        private Projection(EntityMapper<T> mapper, String[] names, List<ColumnReader<T>> readers) {
+            this.mapper = mapper;
+            this.names = names;
+            this.readers = readers.toArray(new ColumnReader[0]);
+        }
+
+        /**
+         * Get the select list of the projection, such as {@code id, title}.
+         *
+         * @return Comma-separated column names
+         */
+        public String columns() {
+            return String.join(", ", names);
+        }
+
+        /**
+         * Get the select list with every column qualified by a table alias,
+         * such as {@code j.id, j.title}, for joins.
+         *
+         * @param alias Table alias
+         * @return Comma-separated qualified column names
+         */
+        public String columns(String alias) {
+            StringBuilder list = new StringBuilder();
+            for (String name : names) {
+                if (list.length() > 0) {
+                    list.append(", ");
+                }
+                list.append(alias).append('.').append(name);
+            }
+            return list.toString();
+        }
+
+        /**
+         * Get {@code SELECT <columns> FROM <table>}, to which a query appends
+         * its WHERE and ORDER BY clauses.
+         *
+         * @return Select statement without conditions
+         */
+        public String selectFrom() {
+            return "SELECT " + columns() + " FROM " + mapper.table;
+        }
+
+        /**
+         * Get the number of columns, so a join can find where the next
+         * projection's columns start.
+         *
+         * @return Number of projected columns
+         */
+        public int size() {
+            return readers.length;
+        }
+
+        /**
+         * Map a row whose select list starts with this projection's columns.
+         */
+        @Override
+        public T map(ResultSet rs) throws SQLException {
+            return map(rs, 1);
+        }
+
+        /**
+         * Map a row in which this projection's columns start at an ordinal,
+         * for example the second table of a join.
+         *
+         * @param rs Result set positioned on the row
+         * @param firstColumn Ordinal of the first projected column
+         * @return New entity filled from the row
+         * @throws SQLException If a column cannot be read
+         */
+        public T map(ResultSet rs, int firstColumn) throws SQLException {
+            T entity = mapper.factory.get();
+            for (int i = 0; i < readers.length; i++) {
+                readers[i].read(rs, firstColumn + i, entity);
+            }
+            return entity;
+        }
+
+        @Override
+        public String toString() {
+            return mapper.table + Arrays.toString(names);
+        }
+    }
+}
@@ -26,10 +26,36 @@ public class ItemDao {
                     item.setId(rs.getInt(1));
                 }
             }
+        } finally {
+            Database.getItemCache().invalidateAll();
         }
         return item;
     }
 
+    /**
+     * Create several items in one transaction using JDBC batching
+     * 
+     * @param items The items to create
+     * @return The created items with generated IDs
+     * @throws SQLException if there's a database error; no item is created then
+     */
+    public List<Item> createAll(List<Item> items) throws SQLException {
+        String sql = "INSERT INTO items (name, description, quantity) VALUES (?, ?, ?)";
+        try {
+            int[] ids = Database.executeBatch(sql, items, (ps, item) -> {
+                ps.setString(1, item.getName());
+                ps.setString(2, item.getDescription());
+                ps.setInt(3, item.getQuantity());
+            }, true);
+            for (int i = 0; i < ids.length; i++) {
+                items.get(i).setId(ids[i]);
+            }
+        } finally {
+            Database.getItemCache().invalidateAll();
+        }
+        return items;
+    }
+
     /**
      * Read an item by ID
      * 
@@ -38,19 +64,17 @@ public class ItemDao {
      * @throws SQLException if there's a database error
      */
     public Item read(int id) throws SQLException {
-        String sql = "SELECT id, name, description, quantity, created_at FROM items WHERE id = ?";
+        return Database.getItemCache().get("id:" + id, () -> load(id));
+    }
+
+    private Item load(int id) throws SQLException {
+        String sql = RowMappers.ITEM_ROW.selectFrom() + " WHERE id = ?";
         try (Connection c = Database.getConnection();
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, id);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    return new Item(
-                        rs.getInt("id"),
-                        rs.getString("name"),
-                        rs.getString("description"),
-                        rs.getInt("quantity"),
-                        rs.getTimestamp("created_at")
-                    );
+                    return RowMappers.ITEM_ROW.map(rs);
                 }
             }
         }
@@ -64,23 +88,36 @@ public class ItemDao {
      * @throws SQLException if there's a database error
      */
     public List<Item> readAll() throws SQLException {
+        return new ArrayList<>(Database.getItemCache().get("all", this::loadAll));
+    }
+
+    private List<Item> loadAll() throws SQLException {
         List<Item> list = new ArrayList<>();
         try (Connection c = Database.getConnection();
-             PreparedStatement ps = c.prepareStatement("SELECT id, name, description, quantity, created_at FROM items ORDER BY name");
+             PreparedStatement ps = c.prepareStatement(RowMappers.ITEM_ROW.selectFrom() + " ORDER BY name");
              ResultSet rs = ps.executeQuery()) {
             while (rs.next()) {
-                list.add(new Item(
-                    rs.getInt("id"),
-                    rs.getString("name"),
-                    rs.getString("description"),
-                    rs.getInt("quantity"),
-                    rs.getTimestamp("created_at")
-                ));
+                list.add(RowMappers.ITEM_ROW.map(rs));
             }
         }
         return list;
     }
 
+    /**
+     * Read one page of items ordered by name, then id
+     * 
+     * @param afterName Name of the last item of the previous page, or null for the first page
+     * @param afterId ID of the last item of the previous page
+     * @param pageSize Maximum number of items to return
+     * @return Items of the page; fewer than pageSize on the last page
+     * @throws SQLException if there's a database error
+     */
+    public List<Item> readPage(String afterName, int afterId, int pageSize) throws SQLException {
+        return new ArrayList<>(Database.getItemCache().get(EntityCache.pageKey(afterName, afterId, pageSize),
+                () -> Database.fetchPage(RowMappers.ITEM_ROW.selectFrom(), "name", afterName, afterId, pageSize,
+                        RowMappers.ITEM_ROW)));
+    }
+
     /**
      * Update an existing item
      * 
@@ -97,7 +134,39 @@ public class ItemDao {
             ps.setInt(3, item.getQuantity());
             ps.setInt(4, item.getId());
             return ps.executeUpdate() > 0;
+        } finally {
+            Database.getItemCache().invalidateAll();
+        }
+    }
+
+    /**
+     * Update several items in one transaction using JDBC batching
+     * 
+     * @param items The items to update
+     * @return Number of items that were updated
+     * @throws SQLException if there's a database error; no item is updated then
+     */
+    public int updateAll(List<Item> items) throws SQLException {
+        String sql = "UPDATE items SET name = ?, description = ?, quantity = ? WHERE id = ?";
+        int[] counts;
+        try {
+            counts = Database.executeBatch(sql, items, (ps, item) -> {
+                ps.setString(1, item.getName());
+                ps.setString(2, item.getDescription());
+                ps.setInt(3, item.getQuantity());
+                ps.setInt(4, item.getId());
+            }, false);
+        } finally {
+            Database.getItemCache().invalidateAll();
+        }
+        int updated = 0;
+        for (int count : counts) {
+            // With rewritten batches the driver may report SUCCESS_NO_INFO instead of a row count
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                updated++;
+            }
         }
+        return updated;
     }
 
     /**
@@ -113,6 +182,8 @@ public class ItemDao {
              PreparedStatement ps = c.prepareStatement(sql)) {
             ps.setInt(1, id);
             return ps.executeUpdate() > 0;
+        } finally {
+            Database.getItemCache().invalidateAll();
         }
     }
 }
\ No newline at end of file
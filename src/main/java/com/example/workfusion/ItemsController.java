@@ -1,21 +1,18 @@
 package com.example.workfusion;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 
-import java.sql.SQLException;
-import java.util.List;
 import java.util.Optional;
 
 public class ItemsController {
 
     private AppController appController;
     private final ObservableList<Item> itemList = FXCollections.observableArrayList();
-    private final ItemDao itemDao = new ItemDao();
 
     @FXML
     private TableView<Item> itemsTable;
@@ -110,26 +107,17 @@ public class ItemsController {
      * Runs the database operation on a background thread.
      */
     public void refreshTable() {
-        Task<List<Item>> task = new Task<>() {
-            @Override
-            protected List<Item> call() throws Exception {
-                System.out.println("DEBUG: Loading items from database");
-                return itemDao.readAll();
+        System.out.println("DEBUG: Loading items from database");
+        AsyncData.readAllItems().whenCompleteAsync((items, error) -> {
+            if (error != null) {
+                Throwable ex = AsyncData.cause(error);
+                ex.printStackTrace();
+                showError("Failed to load items", "Failed to load items from database: " + ex.getMessage());
+                return;
             }
-        };
-
-        task.setOnSucceeded(event -> {
-            itemList.setAll(task.getValue());
+            itemList.setAll(items);
             System.out.println("DEBUG: Loaded " + itemList.size() + " items from database");
-        });
-
-        task.setOnFailed(event -> {
-            Throwable ex = task.getException();
-            ex.printStackTrace();
-            showError("Failed to load items", "Failed to load items from database: " + ex.getMessage());
-        });
-
-        new Thread(task, "db-reader").start();
+        }, Platform::runLater);
     }
 
     /**
@@ -154,15 +142,16 @@ public class ItemsController {
             return;
         }
 
-        try {
-            Item item = new Item(name, description, quantity);
-            Item createdItem = itemDao.create(item);
+        Item item = new Item(name, description, quantity);
+        AsyncData.createItem(item).whenCompleteAsync((createdItem, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to add item: " + AsyncData.cause(error).getMessage());
+                return;
+            }
             itemList.add(createdItem);
             clearForm();
             showInfo("Success", "Item added successfully.");
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to add item: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -193,22 +182,21 @@ public class ItemsController {
             return;
         }
 
-        try {
-            selectedItem.setName(name);
-            selectedItem.setDescription(description);
-            selectedItem.setQuantity(quantity);
+        selectedItem.setName(name);
+        selectedItem.setDescription(description);
+        selectedItem.setQuantity(quantity);
 
-            boolean updated = itemDao.update(selectedItem);
-            if (updated) {
-                int selectedIndex = itemsTable.getSelectionModel().getSelectedIndex();
+        int selectedIndex = itemsTable.getSelectionModel().getSelectedIndex();
+        AsyncData.updateItem(selectedItem).whenCompleteAsync((updated, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to update item: " + AsyncData.cause(error).getMessage());
+            } else if (updated) {
                 itemList.set(selectedIndex, selectedItem);
                 showInfo("Success", "Item updated successfully.");
             } else {
                 showError("Update Error", "Failed to update item.");
             }
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to update item: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -229,18 +217,17 @@ public class ItemsController {
 
         Optional<ButtonType> result = confirmation.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            try {
-                boolean deleted = itemDao.delete(selectedItem.getId());
-                if (deleted) {
+            AsyncData.deleteItem(selectedItem.getId()).whenCompleteAsync((deleted, error) -> {
+                if (error != null) {
+                    showError("Database Error", "Failed to delete item: " + AsyncData.cause(error).getMessage());
+                } else if (deleted) {
                     itemList.remove(selectedItem);
                     clearForm();
                     showInfo("Success", "Item deleted successfully.");
                 } else {
                     showError("Delete Error", "Failed to delete item.");
                 }
-            } catch (SQLException e) {
-                showError("Database Error", "Failed to delete item: " + e.getMessage());
-            }
+            }, Platform::runLater);
         }
     }
 
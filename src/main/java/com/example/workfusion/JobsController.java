@@ -1,5 +1,6 @@
 package com.example.workfusion;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -7,7 +8,6 @@ import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
 
-import java.sql.SQLException;
 import java.util.Optional;
 
 /**
@@ -16,9 +16,25 @@ import java.util.Optional;
  */
 public class JobsController {
 
+    // Jobs fetched per search page
+    private static final int SEARCH_PAGE_SIZE = 50;
+
     private AppController appController;
     private final ObservableList<Job> jobList = FXCollections.observableArrayList();
 
+    // Keywords of the search shown in the table, or null when showing all jobs
+    private String searchKeywords;
+    private int searchPage;
+
+    @FXML
+    private TextField searchField;
+
+    @FXML
+    private Button searchButton;
+
+    @FXML
+    private Button moreButton;
+
     @FXML
     private TableView<Job> jobsTable;
 
@@ -66,10 +82,14 @@ public class JobsController {
         updateButton.setOnAction(event -> handleUpdateJob());
         deleteButton.setOnAction(event -> handleDeleteJob());
         clearButton.setOnAction(event -> clearForm());
+        searchButton.setOnAction(event -> handleSearch());
+        searchField.setOnAction(event -> handleSearch());
+        moreButton.setOnAction(event -> handleMoreResults());
         
         // Disable update/delete buttons initially
         updateButton.setDisable(true);
         deleteButton.setDisable(true);
+        moreButton.setDisable(true);
         
         // Enable update/delete when a job is selected
         jobsTable.getSelectionModel().selectedItemProperty().addListener(
@@ -107,12 +127,80 @@ public class JobsController {
      * Load jobs from the database into the table.
      */
     private void loadJobs() {
-        try {
-            jobList.clear();
-            jobList.addAll(Database.getAllJobs());
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to load jobs: " + e.getMessage());
+        AsyncData.getAllJobs().whenCompleteAsync((jobs, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to load jobs: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            if (searchKeywords != null) {
+                // A search started while all jobs were loading
+                return;
+            }
+            jobList.setAll(jobs);
+        }, Platform::runLater);
+    }
+
+    /**
+     * Handle search button click: show the first page of jobs matching the
+     * keywords, or all jobs again when the search field is empty.
+     */
+    private void handleSearch() {
+        String keywords = searchField.getText().trim();
+        if (keywords.isEmpty()) {
+            moreButton.setDisable(true);
+            searchKeywords = null;
+            loadJobs();
+            return;
+        }
+        
+        searchKeywords = keywords;
+        rerunSearch();
+    }
+
+    /**
+     * Load the current search again from its first page, for example after a
+     * job was saved, so the table only lists matching jobs in relevance order.
+     */
+    private void rerunSearch() {
+        moreButton.setDisable(true);
+        searchPage = 0;
+        loadSearchPage(searchKeywords, 0);
+    }
+
+    /**
+     * Handle more results button click: append the next page of the current search.
+     */
+    private void handleMoreResults() {
+        if (searchKeywords == null) {
+            return;
         }
+        moreButton.setDisable(true);
+        loadSearchPage(searchKeywords, ++searchPage);
+    }
+
+    /**
+     * Load one page of search results into the table.
+     *
+     * @param keywords Keywords of the search
+     * @param page Page number; page 0 replaces the table contents, later pages are appended
+     */
+    private void loadSearchPage(String keywords, int page) {
+        AsyncData.searchJobs(keywords, page, SEARCH_PAGE_SIZE).whenCompleteAsync((jobs, error) -> {
+            if (!keywords.equals(searchKeywords) || page != searchPage) {
+                // A newer search replaced this one
+                return;
+            }
+            if (error != null) {
+                showError("Database Error", "Failed to search jobs: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            if (page == 0) {
+                jobList.setAll(jobs);
+            } else {
+                jobList.addAll(jobs);
+            }
+            moreButton.setDisable(jobs.size() < SEARCH_PAGE_SIZE);
+        }, Platform::runLater);
     }
 
     /**
@@ -129,15 +217,20 @@ public class JobsController {
             return;
         }
         
-        try {
-            Job job = new Job(title, description, skills, AppController.getCurrentUser().getId());
-            Database.insertJob(job);
-            jobList.add(job);
+        Job job = new Job(title, description, skills, AppController.getCurrentUser().getId());
+        AsyncData.insertJob(job).whenCompleteAsync((added, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to add job: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            if (searchKeywords != null) {
+                rerunSearch();
+            } else {
+                jobList.add(added);
+            }
             clearForm();
             showInfo("Success", "Job added successfully.");
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to add job: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -160,18 +253,23 @@ public class JobsController {
             return;
         }
         
-        try {
-            selectedJob.setTitle(title);
-            selectedJob.setDescription(description);
-            selectedJob.setSkills(skills);
-            
-            Database.updateJob(selectedJob);
-            int selectedIndex = jobsTable.getSelectionModel().getSelectedIndex();
-            jobList.set(selectedIndex, selectedJob);
+        // Edit a copy; the selected job is shared with the cache until the update succeeds
+        Job updatedJob = new Job(selectedJob.getId(), title, description, skills,
+                selectedJob.getCreatedBy(), selectedJob.getCreatedAt());
+        
+        int selectedIndex = jobsTable.getSelectionModel().getSelectedIndex();
+        AsyncData.updateJob(updatedJob).whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to update job: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            if (searchKeywords != null) {
+                rerunSearch();
+            } else {
+                jobList.set(selectedIndex, updatedJob);
+            }
             showInfo("Success", "Job updated successfully.");
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to update job: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -192,14 +290,15 @@ public class JobsController {
         
         Optional<ButtonType> result = confirmation.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            try {
-                Database.deleteJob(selectedJob.getId());
+            AsyncData.deleteJob(selectedJob.getId()).whenCompleteAsync((ignored, error) -> {
+                if (error != null) {
+                    showError("Database Error", "Failed to delete job: " + AsyncData.cause(error).getMessage());
+                    return;
+                }
                 jobList.remove(selectedJob);
                 clearForm();
                 showInfo("Success", "Job deleted successfully.");
-            } catch (SQLException e) {
-                showError("Database Error", "Failed to delete job: " + e.getMessage());
-            }
+            }, Platform::runLater);
         }
     }
 
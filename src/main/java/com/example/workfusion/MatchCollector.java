@@ -0,0 +1,268 @@
+package com.example.workfusion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Receives scored pairs from {@link Matcher} and decides which ones to keep.
+ * A {@link Matcher.MatchResult} is only allocated for pairs the collector accepts.
+ */
+public abstract class MatchCollector {
+
+    protected final int minScore;
+
+    protected MatchCollector(int minScore) {
+        this.minScore = minScore;
+    }
+
+    /**
+     * Collect every pair scoring at least {@code minScore} and rank them all.
+     *
+     * @param minScore Lowest score to keep (0-100)
+     * @return Collector keeping all qualifying pairs
+     */
+    public static MatchCollector sorted(int minScore) {
+        return new ScoreBuckets(Integer.MAX_VALUE, minScore);
+    }
+
+    /**
+     * Collect the {@code k} best pairs scoring at least {@code minScore} with a
+     * linear-time counting sort over the 0-100 score domain.
+     *
+     * @param k Maximum number of results to keep
+     * @param minScore Lowest score to keep (0-100)
+     * @return Collector keeping the top {@code k} pairs
+     */
+    public static MatchCollector buckets(int k, int minScore) {
+        return new ScoreBuckets(k, minScore);
+    }
+
+    /**
+     * Collect only the {@code k} best pairs scoring at least {@code minScore}
+     * in a bounded heap.
+     *
+     * @param k Maximum number of results to keep
+     * @param minScore Lowest score to keep (0-100)
+     * @return Collector keeping the top {@code k} pairs
+     */
+    public static MatchCollector topK(int k, int minScore) {
+        return new TopK(k, minScore);
+    }
+
+    /**
+     * Offer a scored pair to the collector.
+     *
+     * @param seeker The seeker
+     * @param job The job
+     * @param overlapCount Number of shared skills
+     * @param totalJobSkills Number of job skills
+     * @param totalSeekerSkills Number of seeker skills
+     * @param score Match score (0-100)
+     */
+    public abstract void offer(Seeker seeker, Job job, int overlapCount, int totalJobSkills,
+                               int totalSeekerSkills, int score);
+
+    /**
+     * Offer a scored pair identified by its corpus slots.
+     * Collectors that store slots rather than entities override this; by default
+     * the entities are looked up and passed to the entity-based method.
+     *
+     * @param corpus The corpus the slots refer to
+     * @param seekerSlot Slot of the seeker
+     * @param jobSlot Slot of the job
+     * @param overlapCount Number of shared skills
+     * @param totalJobSkills Number of job skills
+     * @param totalSeekerSkills Number of seeker skills
+     * @param score Match score (0-100)
+     */
+    public void offer(MatchCorpus corpus, int seekerSlot, int jobSlot, int overlapCount, int totalJobSkills,
+                      int totalSeekerSkills, int score) {
+        offer(corpus.seeker(seekerSlot), corpus.job(jobSlot), overlapCount, totalJobSkills, totalSeekerSkills, score);
+    }
+
+    /**
+     * Offer an already built result to the collector.
+     *
+     * @param result The result
+     */
+    public abstract void offer(Matcher.MatchResult result);
+
+    /**
+     * Get the collected results.
+     *
+     * @return Results in {@link Matcher#RANKING} order
+     */
+    public abstract List<Matcher.MatchResult> results();
+
+    /**
+     * Fold the results of another collector into this one.
+     * Used to combine per-chunk collectors; {@code other} must hold pairs that
+     * were visited after the pairs already in this collector.
+     *
+     * @param other Collector to merge
+     */
+    public void merge(MatchCollector other) {
+        for (Matcher.MatchResult result : other.results()) {
+            offer(result);
+        }
+    }
+
+    /**
+     * Counting-sort collector with one bucket per score from 0 to 100.
+     * Pairs are appended to the bucket of their score in arrival order. Matcher
+     * visits corpus slots in ascending order and corpora are slotted by id, so
+     * buckets normally come out already tie-broken by seeker and job id; a bucket
+     * that receives an out-of-order pair is sorted once when results are read.
+     * <p>
+     * Once the buckets at or above some score hold {@code k} pairs, lower buckets
+     * can never reach the output, so they are dropped and lower scores rejected.
+     */
+    static class ScoreBuckets extends MatchCollector {
+        private static final int BUCKETS = 101;
+
+        private final int k;
+        // One list per score, null until a pair with that score is kept
+        private final List<List<Matcher.MatchResult>> buckets = new ArrayList<>(Collections.nCopies(BUCKETS, null));
+        private final boolean[] unordered = new boolean[BUCKETS];
+        private int floor;
+        private long kept;
+
+        ScoreBuckets(int k, int minScore) {
+            super(minScore);
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            this.k = k;
+            this.floor = Math.max(0, minScore);
+        }
+
+        @Override
+        public void offer(Seeker seeker, Job job, int overlapCount, int totalJobSkills,
+                          int totalSeekerSkills, int score) {
+            if (score < floor || k == 0) {
+                return;
+            }
+            offer(new Matcher.MatchResult(seeker, job, overlapCount, totalJobSkills, totalSeekerSkills, score));
+        }
+
+        @Override
+        public void offer(Matcher.MatchResult result) {
+            int score = result.getScore();
+            if (score < floor || k == 0) {
+                return;
+            }
+            List<Matcher.MatchResult> bucket = buckets.get(score);
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+                buckets.set(score, bucket);
+            } else if (!bucket.isEmpty() && Matcher.RANKING.compare(bucket.get(bucket.size() - 1), result) > 0) {
+                unordered[score] = true;
+            }
+            bucket.add(result);
+            kept++;
+
+            // Drop the lowest buckets while the rest still holds k results
+            if (kept >= k) {
+                while (buckets.get(floor) == null) {
+                    floor++;
+                }
+                while (kept - buckets.get(floor).size() >= k) {
+                    kept -= buckets.get(floor).size();
+                    buckets.set(floor, null);
+                    unordered[floor] = false;
+                    do {
+                        floor++;
+                    } while (buckets.get(floor) == null);
+                }
+            }
+        }
+
+        @Override
+        public List<Matcher.MatchResult> results() {
+            List<Matcher.MatchResult> results = new ArrayList<>((int) Math.min(k, kept));
+            for (int score = BUCKETS - 1; score >= floor && results.size() < k; score--) {
+                List<Matcher.MatchResult> bucket = buckets.get(score);
+                if (bucket == null) {
+                    continue;
+                }
+                if (unordered[score]) {
+                    bucket.sort(Matcher.RANKING);
+                    unordered[score] = false;
+                }
+                int take = Math.min(bucket.size(), k - results.size());
+                results.addAll(bucket.subList(0, take));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Collector backed by a min-heap of at most {@code k} results.
+     * The head of the heap is the worst kept result, so a pair that does not
+     * beat it is rejected without allocating anything.
+     */
+    private static class TopK extends MatchCollector {
+        private final int k;
+        private final PriorityQueue<Matcher.MatchResult> heap;
+
+        TopK(int k, int minScore) {
+            super(minScore);
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            this.k = k;
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), Matcher.RANKING.reversed());
+        }
+
+        @Override
+        public void offer(Seeker seeker, Job job, int overlapCount, int totalJobSkills,
+                          int totalSeekerSkills, int score) {
+            if (score < minScore || k == 0) {
+                return;
+            }
+            if (heap.size() == k && !beatsWorst(seeker, job, score)) {
+                return;
+            }
+            push(new Matcher.MatchResult(seeker, job, overlapCount, totalJobSkills, totalSeekerSkills, score));
+        }
+
+        @Override
+        public void offer(Matcher.MatchResult result) {
+            if (result.getScore() < minScore || k == 0) {
+                return;
+            }
+            if (heap.size() == k && !beatsWorst(result.getSeeker(), result.getJob(), result.getScore())) {
+                return;
+            }
+            push(result);
+        }
+
+        private void push(Matcher.MatchResult result) {
+            heap.add(result);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        private boolean beatsWorst(Seeker seeker, Job job, int score) {
+            Matcher.MatchResult worst = heap.peek();
+            if (score != worst.getScore()) {
+                return score > worst.getScore();
+            }
+            int bySeeker = Integer.compare(seeker.getId(), worst.getSeeker().getId());
+            if (bySeeker != 0) {
+                return bySeeker < 0;
+            }
+            return job.getId() < worst.getJob().getId();
+        }
+
+        @Override
+        public List<Matcher.MatchResult> results() {
+            List<Matcher.MatchResult> results = new ArrayList<>(heap);
+            results.sort(Matcher.RANKING);
+            return results;
+        }
+    }
+}
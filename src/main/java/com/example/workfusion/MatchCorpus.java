@@ -0,0 +1,451 @@
+package com.example.workfusion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Seekers and jobs prepared for matching.
+ * Every skills string is normalized and encoded exactly once when an entity is
+ * added, so a corpus can be reused across any number of {@link Matcher} calls.
+ * <p>
+ * Each entity occupies a slot. Slots of deleted entities are left empty, so
+ * callers iterating {@code 0..seekerSlots()} must skip {@code null} entities.
+ * Once more than half of a side's slots are empty, that side is compacted:
+ * the remaining entities move down in slot order and {@link #layout()} changes.
+ * The corpus keeps an inverted {@link SkillIndex} per side and can be kept
+ * current by registering it with {@link Database#addChangeListener}.
+ * <p>
+ * A corpus is confined to one owner thread: changes must be applied on the thread
+ * that reads the corpus, so slot arrays are never seen half-updated. The application
+ * forwards database changes to the JavaFX thread for that reason. Work that runs on
+ * other threads, such as a {@link MatchPublisher} run, gets its own {@link #copy()};
+ * several threads may read a corpus at once as long as no change is applied meanwhile,
+ * as the parallel {@link MatchEngine} does while the owner waits for it.
+ */
+public class MatchCorpus implements Database.ChangeListener {
+
+    private Seeker[] seekers = new Seeker[0];
+    private String[] seekerSkillText = new String[0];
+    private long[][] seekerSkills = new long[0][];
+    private int[] seekerSkillCounts = new int[0];
+    private int seekerSlots;
+    private int emptySeekerSlots;
+    private final Map<Integer, Integer> seekerSlotsById = new HashMap<>();
+    private SkillIndex seekerIndex = new SkillIndex();
+
+    private Job[] jobs = new Job[0];
+    private String[] jobSkillText = new String[0];
+    private long[][] jobSkills = new long[0][];
+    private int[] jobSkillCounts = new int[0];
+    private int jobSlots;
+    private int emptyJobSlots;
+    private final Map<Integer, Integer> jobSlotsById = new HashMap<>();
+    private SkillIndex jobIndex = new SkillIndex();
+
+    // CSR snapshots for the all-pairs kernel, rebuilt lazily after changes; built under
+    // the corpus lock because parallel readers may ask for them at the same time
+    private SkillMatrix seekerMatrix;
+    private SkillMatrix jobsBySkill;
+    private SkillBlock jobBlock;
+
+    private long version;
+    private long layout;
+
+    /**
+     * Prepare a corpus from lists of seekers and jobs.
+     * Entities are slotted in id order, so visiting slots in ascending order
+     * visits ids in ascending order too.
+     *
+     * @param seekers The seekers to prepare
+     * @param jobs The jobs to prepare
+     */
+    public MatchCorpus(List<Seeker> seekers, List<Job> jobs) {
+        List<Seeker> orderedSeekers = new ArrayList<>(seekers);
+        orderedSeekers.sort(Comparator.comparingInt(Seeker::getId));
+        for (Seeker seeker : orderedSeekers) {
+            addSeeker(seeker);
+        }
+
+        List<Job> orderedJobs = new ArrayList<>(jobs);
+        orderedJobs.sort(Comparator.comparingInt(Job::getId));
+        for (Job job : orderedJobs) {
+            addJob(job);
+        }
+    }
+
+    /**
+     * Copy a corpus. Skill vectors are immutable and shared; slot arrays, slot maps
+     * and indexes are copied, so the copy keeps the same slots and can be handed to
+     * another thread while the original keeps changing.
+     *
+     * @param other The corpus to copy
+     */
+    private MatchCorpus(MatchCorpus other) {
+        seekers = Arrays.copyOf(other.seekers, other.seekerSlots);
+        seekerSkillText = Arrays.copyOf(other.seekerSkillText, other.seekerSlots);
+        seekerSkills = Arrays.copyOf(other.seekerSkills, other.seekerSlots);
+        seekerSkillCounts = Arrays.copyOf(other.seekerSkillCounts, other.seekerSlots);
+        seekerSlots = other.seekerSlots;
+        emptySeekerSlots = other.emptySeekerSlots;
+        seekerSlotsById.putAll(other.seekerSlotsById);
+        seekerIndex = index(seekerSkills, seekerSlots);
+
+        jobs = Arrays.copyOf(other.jobs, other.jobSlots);
+        jobSkillText = Arrays.copyOf(other.jobSkillText, other.jobSlots);
+        jobSkills = Arrays.copyOf(other.jobSkills, other.jobSlots);
+        jobSkillCounts = Arrays.copyOf(other.jobSkillCounts, other.jobSlots);
+        jobSlots = other.jobSlots;
+        emptyJobSlots = other.emptyJobSlots;
+        jobSlotsById.putAll(other.jobSlotsById);
+        jobIndex = index(jobSkills, jobSlots);
+
+        version = other.version;
+        layout = other.layout;
+    }
+
+    /**
+     * Copy the corpus for use on another thread.
+     * The copy has the same slots, {@link #version()} and {@link #layout()}, so
+     * results collected from it can be applied to this corpus while neither changed.
+     *
+     * @return Independent copy of the corpus
+     */
+    public MatchCorpus copy() {
+        return new MatchCorpus(this);
+    }
+
+    public int seekerSlots() { return seekerSlots; }
+    public Seeker seeker(int slot) { return seekers[slot]; }
+    public long[] seekerSkills(int slot) { return seekerSkills[slot]; }
+    public int seekerSkillCount(int slot) { return seekerSkillCounts[slot]; }
+    public SkillIndex seekerIndex() { return seekerIndex; }
+
+    /**
+     * Get the number of changes applied since the corpus was prepared.
+     *
+     * @return Change count, incremented on every saved or deleted entity
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Get the number of times slots were compacted since the corpus was prepared.
+     * Slot numbers taken while the layout had another value no longer identify
+     * the same entities.
+     *
+     * @return Compaction count
+     */
+    public long layout() {
+        return layout;
+    }
+
+    /**
+     * Find the slot of a seeker.
+     *
+     * @param seekerId Id of the seeker
+     * @return Slot of the seeker, or -1 if it is not part of the corpus
+     */
+    public int seekerSlotOf(int seekerId) {
+        Integer slot = seekerSlotsById.get(seekerId);
+        return slot != null ? slot : -1;
+    }
+
+    public int jobSlots() { return jobSlots; }
+    public Job job(int slot) { return jobs[slot]; }
+    public long[] jobSkills(int slot) { return jobSkills[slot]; }
+    public int jobSkillCount(int slot) { return jobSkillCounts[slot]; }
+    public SkillIndex jobIndex() { return jobIndex; }
+
+    /**
+     * Find the slot of a job.
+     *
+     * @param jobId Id of the job
+     * @return Slot of the job, or -1 if it is not part of the corpus
+     */
+    public int jobSlotOf(int jobId) {
+        Integer slot = jobSlotsById.get(jobId);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Get the seeker skill matrix: one row per seeker slot, one column per skill id.
+     *
+     * @return CSR snapshot of the seeker skills
+     */
+    public synchronized SkillMatrix seekerMatrix() {
+        if (seekerMatrix == null) {
+            seekerMatrix = SkillMatrix.ofRows(seekerSkills, seekerSlots, SkillDictionary.global().size());
+        }
+        return seekerMatrix;
+    }
+
+    /**
+     * Get the transposed job skill matrix: one row per skill id, one column per job slot.
+     *
+     * @return CSR snapshot of the job skills by skill
+     */
+    public synchronized SkillMatrix jobsBySkill() {
+        if (jobsBySkill == null) {
+            jobsBySkill = SkillMatrix.ofRows(jobSkills, jobSlots, SkillDictionary.global().size()).transpose();
+        }
+        return jobsBySkill;
+    }
+
+    /**
+     * Get the job skill vectors packed for bulk intersection counting.
+     *
+     * @return Block with one packed vector per job slot
+     */
+    public synchronized SkillBlock jobBlock() {
+        if (jobBlock == null) {
+            jobBlock = new SkillBlock(jobSkills, jobSlots);
+        }
+        return jobBlock;
+    }
+
+    /**
+     * Get the skill vector of a seeker, reusing the prepared one when the seeker
+     * is part of this corpus and its skills have not changed since.
+     *
+     * @param seeker The seeker
+     * @return Skill vector of the seeker
+     */
+    public long[] skillsOf(Seeker seeker) {
+        Integer slot = seekerSlotsById.get(seeker.getId());
+        if (slot != null && Objects.equals(seekerSkillText[slot], seeker.getSkills())) {
+            return seekerSkills[slot];
+        }
+        return SkillDictionary.global().encode(seeker.getSkills());
+    }
+
+    /**
+     * Get the skill vector of a job, reusing the prepared one when the job
+     * is part of this corpus and its skills have not changed since.
+     *
+     * @param job The job
+     * @return Skill vector of the job
+     */
+    public long[] skillsOf(Job job) {
+        Integer slot = jobSlotsById.get(job.getId());
+        if (slot != null && Objects.equals(jobSkillText[slot], job.getSkills())) {
+            return jobSkills[slot];
+        }
+        return SkillDictionary.global().encode(job.getSkills());
+    }
+
+    /**
+     * Find the seekers sharing at least one skill with a skill vector.
+     *
+     * @param skills Skill vector of the query
+     * @return Set of candidate seeker slots
+     */
+    public BitSet seekerCandidates(long[] skills) {
+        return seekerIndex.candidates(skills);
+    }
+
+    /**
+     * Find the jobs sharing at least one skill with a skill vector.
+     *
+     * @param skills Skill vector of the query
+     * @return Set of candidate job slots
+     */
+    public BitSet jobCandidates(long[] skills) {
+        return jobIndex.candidates(skills);
+    }
+
+    @Override
+    public void seekerSaved(Seeker seeker) {
+        version++;
+        seekerMatrix = null;
+        Integer slot = seekerSlotsById.get(seeker.getId());
+        if (slot == null) {
+            addSeeker(seeker);
+            return;
+        }
+        seekerIndex.remove(slot, seekerSkills[slot]);
+        setSeeker(slot, seeker);
+    }
+
+    @Override
+    public void seekerDeleted(int seekerId) {
+        removeSeeker(seekerId);
+    }
+
+    @Override
+    public void jobSaved(Job job) {
+        version++;
+        jobsBySkill = null;
+        jobBlock = null;
+        Integer slot = jobSlotsById.get(job.getId());
+        if (slot == null) {
+            addJob(job);
+            return;
+        }
+        jobIndex.remove(slot, jobSkills[slot]);
+        setJob(slot, job);
+    }
+
+    @Override
+    public void jobDeleted(int jobId) {
+        removeJob(jobId);
+    }
+
+    /**
+     * Remove a seeker, compacting the seeker slots if most of them are empty.
+     *
+     * @param seekerId Id of the seeker
+     * @return New slot of every old seeker slot, -1 for empty ones, if the slots
+     *         were compacted; otherwise {@code null}
+     */
+    int[] removeSeeker(int seekerId) {
+        version++;
+        seekerMatrix = null;
+        Integer slot = seekerSlotsById.remove(seekerId);
+        if (slot == null) {
+            return null;
+        }
+        seekerIndex.remove(slot, seekerSkills[slot]);
+        seekers[slot] = null;
+        seekerSkillText[slot] = null;
+        seekerSkills[slot] = SkillBits.EMPTY;
+        seekerSkillCounts[slot] = 0;
+        if (!sparse(++emptySeekerSlots, seekerSlots)) {
+            return null;
+        }
+
+        int[] moved = new int[seekerSlots];
+        int next = 0;
+        for (int s = 0; s < seekerSlots; s++) {
+            if (seekers[s] == null) {
+                moved[s] = -1;
+                continue;
+            }
+            moved[s] = next;
+            seekers[next] = seekers[s];
+            seekerSkillText[next] = seekerSkillText[s];
+            seekerSkills[next] = seekerSkills[s];
+            seekerSkillCounts[next] = seekerSkillCounts[s];
+            seekerSlotsById.put(seekers[next].getId(), next);
+            next++;
+        }
+        Arrays.fill(seekers, next, seekerSlots, null);
+        Arrays.fill(seekerSkillText, next, seekerSlots, null);
+        Arrays.fill(seekerSkills, next, seekerSlots, null);
+        seekerSlots = next;
+        emptySeekerSlots = 0;
+        seekerIndex = index(seekerSkills, seekerSlots);
+        layout++;
+        return moved;
+    }
+
+    /**
+     * Remove a job, compacting the job slots if most of them are empty.
+     *
+     * @param jobId Id of the job
+     * @return New slot of every old job slot, -1 for empty ones, if the slots
+     *         were compacted; otherwise {@code null}
+     */
+    int[] removeJob(int jobId) {
+        version++;
+        jobsBySkill = null;
+        jobBlock = null;
+        Integer slot = jobSlotsById.remove(jobId);
+        if (slot == null) {
+            return null;
+        }
+        jobIndex.remove(slot, jobSkills[slot]);
+        jobs[slot] = null;
+        jobSkillText[slot] = null;
+        jobSkills[slot] = SkillBits.EMPTY;
+        jobSkillCounts[slot] = 0;
+        if (!sparse(++emptyJobSlots, jobSlots)) {
+            return null;
+        }
+
+        int[] moved = new int[jobSlots];
+        int next = 0;
+        for (int j = 0; j < jobSlots; j++) {
+            if (jobs[j] == null) {
+                moved[j] = -1;
+                continue;
+            }
+            moved[j] = next;
+            jobs[next] = jobs[j];
+            jobSkillText[next] = jobSkillText[j];
+            jobSkills[next] = jobSkills[j];
+            jobSkillCounts[next] = jobSkillCounts[j];
+            jobSlotsById.put(jobs[next].getId(), next);
+            next++;
+        }
+        Arrays.fill(jobs, next, jobSlots, null);
+        Arrays.fill(jobSkillText, next, jobSlots, null);
+        Arrays.fill(jobSkills, next, jobSlots, null);
+        jobSlots = next;
+        emptyJobSlots = 0;
+        jobIndex = index(jobSkills, jobSlots);
+        layout++;
+        return moved;
+    }
+
+    // Compact once empty slots outnumber live ones, but not for a handful of deletes
+    private static boolean sparse(int emptySlots, int slots) {
+        return emptySlots >= 64 && emptySlots * 2 > slots;
+    }
+
+    private static SkillIndex index(long[][] skills, int slots) {
+        SkillIndex index = new SkillIndex();
+        for (int slot = 0; slot < slots; slot++) {
+            index.add(slot, skills[slot]);
+        }
+        return index;
+    }
+
+    private void addSeeker(Seeker seeker) {
+        if (seekerSlots == seekers.length) {
+            int capacity = Math.max(16, seekerSlots * 2);
+            seekers = Arrays.copyOf(seekers, capacity);
+            seekerSkillText = Arrays.copyOf(seekerSkillText, capacity);
+            seekerSkills = Arrays.copyOf(seekerSkills, capacity);
+            seekerSkillCounts = Arrays.copyOf(seekerSkillCounts, capacity);
+        }
+        int slot = seekerSlots++;
+        seekerSlotsById.putIfAbsent(seeker.getId(), slot);
+        setSeeker(slot, seeker);
+    }
+
+    private void setSeeker(int slot, Seeker seeker) {
+        seekers[slot] = seeker;
+        seekerSkillText[slot] = seeker.getSkills();
+        seekerSkills[slot] = SkillDictionary.global().encode(seeker.getSkills());
+        seekerSkillCounts[slot] = SkillBits.cardinality(seekerSkills[slot]);
+        seekerIndex.add(slot, seekerSkills[slot]);
+    }
+
+    private void addJob(Job job) {
+        if (jobSlots == jobs.length) {
+            int capacity = Math.max(16, jobSlots * 2);
+            jobs = Arrays.copyOf(jobs, capacity);
+            jobSkillText = Arrays.copyOf(jobSkillText, capacity);
+            jobSkills = Arrays.copyOf(jobSkills, capacity);
+            jobSkillCounts = Arrays.copyOf(jobSkillCounts, capacity);
+        }
+        int slot = jobSlots++;
+        jobSlotsById.putIfAbsent(job.getId(), slot);
+        setJob(slot, job);
+    }
+
+    private void setJob(int slot, Job job) {
+        jobs[slot] = job;
+        jobSkillText[slot] = job.getSkills();
+        jobSkills[slot] = SkillDictionary.global().encode(job.getSkills());
+        jobSkillCounts[slot] = SkillBits.cardinality(jobSkills[slot]);
+        jobIndex.add(slot, jobSkills[slot]);
+    }
+}
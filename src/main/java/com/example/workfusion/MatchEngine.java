@@ -0,0 +1,163 @@
+package com.example.workfusion;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Execution strategy for {@link Matcher#matchAll(MatchCorpus, MatchEngine, Supplier)}.
+ * The sequential engine runs the seeker loop on the calling thread. The parallel
+ * engine splits the seeker slots into chunks scored on a {@link ForkJoinPool} of
+ * at most {@code parallelism} worker threads; every chunk fills its own collector
+ * and chunks are merged in slot order, so both engines return identical results.
+ * <p>
+ * Engines of the same parallelism share one pool, created on first use. Its
+ * workers are daemon threads that exit after a minute without work, so engines
+ * need no shutdown and idle pools hold no threads.
+ */
+public class MatchEngine {
+
+    // Smallest number of seeker slots worth handing to a separate task
+    private static final int MIN_CHUNK = 64;
+
+    private static final MatchEngine SEQUENTIAL = new MatchEngine(1);
+
+    // Worker pools by parallelism, shared by all engines of that parallelism
+    private static final ConcurrentHashMap<Integer, ForkJoinPool> POOLS = new ConcurrentHashMap<>();
+
+    private final int parallelism;
+
+    private MatchEngine(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Get the engine that scores all pairs on the calling thread.
+     *
+     * @return Sequential engine
+     */
+    public static MatchEngine sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Create a parallel engine using one worker per available processor.
+     *
+     * @return Parallel engine
+     */
+    public static MatchEngine parallel() {
+        return parallel(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a parallel engine with a fixed number of workers.
+     *
+     * @param parallelism Maximum number of worker threads
+     * @return Parallel engine
+     */
+    public static MatchEngine parallel(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1: " + parallelism);
+        }
+        return new MatchEngine(parallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isParallel() {
+        return this != SEQUENTIAL;
+    }
+
+    /**
+     * Score every seeker against every job of a corpus.
+     *
+     * @param corpus The prepared corpus
+     * @param collectors Creates one empty collector per chunk
+     * @return Collector holding the merged results
+     */
+    MatchCollector collect(MatchCorpus corpus, Supplier<MatchCollector> collectors) {
+        int seekerSlots = corpus.seekerSlots();
+        if (!isParallel() || seekerSlots <= MIN_CHUNK) {
+            MatchCollector collector = collectors.get();
+            Matcher.matchSeekerRange(corpus, 0, seekerSlots, collector);
+            return collector;
+        }
+
+        int chunk = Math.max(MIN_CHUNK, seekerSlots / (parallelism * 4));
+        Chunk root = new Chunk(corpus, collectors, 0, seekerSlots, chunk);
+        // Started through a future so the calling thread waits instead of running chunks itself
+        try {
+            return CompletableFuture.supplyAsync(root::invoke, pool()).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the worker pool of this engine's parallelism.
+     * The pool never grows beyond {@code parallelism} threads, not even to
+     * compensate for workers blocked in a join; chunks then wait for a free worker.
+     *
+     * @return Shared pool
+     */
+    ForkJoinPool pool() {
+        return POOLS.computeIfAbsent(parallelism, n -> new ForkJoinPool(n,
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false,
+                0, n, 1, pool -> true, 60, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Task scoring a range of seeker slots, split in halves until small enough.
+     */
+    private static class Chunk extends RecursiveTask<MatchCollector> {
+        private static final long serialVersionUID = 1L;
+
+        // Tasks are never serialized; the corpus and collector factory stay on the heap
+        private final transient MatchCorpus corpus;
+        private final transient Supplier<MatchCollector> collectors;
+        private final int fromSlot;
+        private final int toSlot;
+        private final int chunk;
+
+        Chunk(MatchCorpus corpus, Supplier<MatchCollector> collectors, int fromSlot, int toSlot, int chunk) {
+            this.corpus = corpus;
+            this.collectors = collectors;
+            this.fromSlot = fromSlot;
+            this.toSlot = toSlot;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected MatchCollector compute() {
+            if (toSlot - fromSlot <= chunk) {
+                MatchCollector collector = collectors.get();
+                Matcher.matchSeekerRange(corpus, fromSlot, toSlot, collector);
+                return collector;
+            }
+
+            int mid = (fromSlot + toSlot) >>> 1;
+            Chunk left = new Chunk(corpus, collectors, fromSlot, mid, chunk);
+            Chunk right = new Chunk(corpus, collectors, mid, toSlot, chunk);
+            left.fork();
+            MatchCollector rightResults = right.compute();
+            MatchCollector leftResults = left.join();
+
+            // Left slots come first, so folding right into left keeps slot order
+            leftResults.merge(rightResults);
+            return leftResults;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.workfusion;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes all-pairs match results of a corpus as they are computed.
+ * <p>
+ * Seeker slots are split into chunks, and every chunk is published as one batch
+ * in {@link Matcher#RANKING} order once it has been scored. Batches follow seeker
+ * slot order. A chunk is only scored when the subscriber has requested a batch, so
+ * at most the requested number of batches are ever held in memory, and a cancelled
+ * subscription stops before the next chunk. Chunks without matches are skipped.
+ * Each subscriber gets its own run on the publisher's executor. The corpus is read
+ * on that executor, so a corpus that keeps changing should be published as a
+ * {@link MatchCorpus#copy()}.
+ */
+public class MatchPublisher implements Flow.Publisher<List<Matcher.MatchResult>> {
+
+    private final MatchCorpus corpus;
+    private final int minScore;
+    private final int chunkSize;
+    private final Executor executor;
+
+    /**
+     * Create a publisher.
+     *
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score to publish (0-100)
+     * @param chunkSize Number of seeker slots scored per batch
+     * @param executor Executor running the scoring
+     */
+    public MatchPublisher(MatchCorpus corpus, int minScore, int chunkSize, Executor executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.corpus = corpus;
+        this.minScore = minScore;
+        this.chunkSize = chunkSize;
+        this.executor = executor;
+    }
+
+    public int getMinScore() { return minScore; }
+    public int getChunkSize() { return chunkSize; }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<Matcher.MatchResult>> subscriber) {
+        ChunkSubscription subscription = new ChunkSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Subscription scoring one chunk per requested batch.
+     * Only one drain runs at a time; {@code pending} counts the signals that
+     * arrived while it was running, so no request is lost.
+     */
+    private class ChunkSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super List<Matcher.MatchResult>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int nextSlot;
+        private boolean done;
+
+        ChunkSubscription(Flow.Subscriber<? super List<Matcher.MatchResult>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                executor.execute(() -> subscriber.onError(
+                        new IllegalArgumentException("Requested batches must be positive: " + n)));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void signal() {
+            if (pending.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                try {
+                    emit();
+                } catch (RuntimeException e) {
+                    cancelled = true;
+                    subscriber.onError(e);
+                    return;
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!cancelled && !done && demand.get() > 0) {
+                int seekerSlots = corpus.seekerSlots();
+                if (nextSlot >= seekerSlots) {
+                    done = true;
+                    try {
+                        subscriber.onComplete();
+                    } catch (RuntimeException e) {
+                        subscriberFailed("onComplete", e);
+                    }
+                    return;
+                }
+                int from = nextSlot;
+                int to = Math.min(seekerSlots, from + chunkSize);
+                nextSlot = to;
+
+                MatchCollector collector = MatchCollector.sorted(minScore);
+                Matcher.matchSeekerRange(corpus, from, to, collector);
+                List<Matcher.MatchResult> batch = collector.results();
+                if (!batch.isEmpty() && !cancelled) {
+                    demand.decrementAndGet();
+                    try {
+                        subscriber.onNext(batch);
+                    } catch (RuntimeException e) {
+                        subscriberFailed("onNext", e);
+                        return;
+                    }
+                }
+            }
+        }
+
+        // A subscriber that throws is broken (rule 2.13), so it is cancelled and not signalled again
+        private void subscriberFailed(String signal, RuntimeException e) {
+            cancel();
+            System.err.println("Match subscriber failed in " + signal + ", run cancelled: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.example.workfusion;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Collector storing scored pairs in parallel primitive arrays instead of
+ * {@link Matcher.MatchResult} objects: a seeker slot, a job slot, an overlap
+ * count and a score take 11 bytes per pair, against about 40 for a result object
+ * and its list entry. Skill totals are not stored; they are read from the corpus.
+ * <p>
+ * Pairs refer to slots of the corpus the buffer was created for, and entities are
+ * resolved only when a row is read, so rows of seekers or jobs deleted since the
+ * run hold {@code null} entities. Once the corpus compacts its slots, every row
+ * holds {@code null} entities and the results have to be collected again. {@link #asList()} exposes the rows as a read-only
+ * list in {@link Matcher#RANKING} order, creating one result object per row read.
+ * <p>
+ * Like the other collectors, a buffer is not thread-safe: it is filled and read by
+ * one thread at a time, and rows are only reordered when that thread reads them.
+ * Parallel runs give every chunk its own buffer and merge them afterwards.
+ */
+public class MatchResultBuffer extends MatchCollector {
+
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private final MatchCorpus corpus;
+    private final long layout;
+    private int[] seekerSlots = new int[16];
+    private int[] jobSlots = new int[16];
+    private short[] overlaps = new short[16];
+    private byte[] scores = new byte[16];
+    private int size;
+
+    // Rows are kept in arrival order until first read, then reordered by rank once
+    private boolean ranked = true;
+    private boolean arrivedInOrder = true;
+
+    /**
+     * Create an empty buffer.
+     *
+     * @param corpus The corpus whose slots the pairs refer to
+     * @param minScore Lowest score to keep (0-100)
+     */
+    public MatchResultBuffer(MatchCorpus corpus, int minScore) {
+        super(minScore);
+        this.corpus = corpus;
+        this.layout = corpus.layout();
+    }
+
+    public MatchCorpus getCorpus() {
+        return corpus;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void offer(MatchCorpus corpus, int seekerSlot, int jobSlot, int overlapCount, int totalJobSkills,
+                      int totalSeekerSkills, int score) {
+        if (score < minScore) {
+            return;
+        }
+        if (corpus != this.corpus) {
+            throw new IllegalArgumentException("Pair belongs to a different corpus");
+        }
+        append(seekerSlot, jobSlot, overlapCount, score);
+    }
+
+    @Override
+    public void offer(Seeker seeker, Job job, int overlapCount, int totalJobSkills,
+                      int totalSeekerSkills, int score) {
+        if (score < minScore) {
+            return;
+        }
+        int seekerSlot = corpus.seekerSlotOf(seeker.getId());
+        int jobSlot = corpus.jobSlotOf(job.getId());
+        if (seekerSlot < 0 || jobSlot < 0) {
+            throw new IllegalArgumentException("Pair is not part of the corpus: seeker " + seeker.getId()
+                    + ", job " + job.getId());
+        }
+        append(seekerSlot, jobSlot, overlapCount, score);
+    }
+
+    @Override
+    public void offer(Matcher.MatchResult result) {
+        offer(result.getSeeker(), result.getJob(), result.getOverlapCount(), result.getTotalJobSkills(),
+                result.getTotalSeekerSkills(), result.getScore());
+    }
+
+    /**
+     * Append the rows of another buffer without going through result objects.
+     */
+    @Override
+    public void merge(MatchCollector other) {
+        if (!(other instanceof MatchResultBuffer) || ((MatchResultBuffer) other).corpus != corpus) {
+            super.merge(other);
+            return;
+        }
+        MatchResultBuffer buffer = (MatchResultBuffer) other;
+        ensureCapacity(size + (long) buffer.size);
+        for (int i = 0; i < buffer.size; i++) {
+            if (buffer.scores[i] >= minScore) {
+                append(buffer.seekerSlots[i], buffer.jobSlots[i], buffer.overlaps[i] & 0xFFFF, buffer.scores[i]);
+            }
+        }
+    }
+
+    /**
+     * Get the kept pairs as result objects.
+     *
+     * @return Read-only view in {@link Matcher#RANKING} order
+     */
+    @Override
+    public List<Matcher.MatchResult> results() {
+        return asList();
+    }
+
+    /**
+     * Get a read-only list view of the rows in {@link Matcher#RANKING} order.
+     * Each {@code get} creates a short-lived result object for one row, so the view
+     * can back a table that only ever reads its visible rows.
+     *
+     * @return Lazy list view of this buffer
+     */
+    public List<Matcher.MatchResult> asList() {
+        rank();
+        return new Rows();
+    }
+
+    /**
+     * Get the seeker of the row at a rank.
+     *
+     * @param rank Row index in ranking order
+     * @return The seeker, or {@code null} if it was deleted from the corpus
+     */
+    public Seeker seeker(int rank) {
+        return seekerAt(seekerSlot(rank));
+    }
+
+    /**
+     * Get the job of the row at a rank.
+     *
+     * @param rank Row index in ranking order
+     * @return The job, or {@code null} if it was deleted from the corpus
+     */
+    public Job job(int rank) {
+        return jobAt(jobSlot(rank));
+    }
+
+    public int seekerSlot(int rank) { rank(); return seekerSlots[checkIndex(rank)]; }
+    public int jobSlot(int rank) { rank(); return jobSlots[checkIndex(rank)]; }
+    public int overlapCount(int rank) { rank(); return overlaps[checkIndex(rank)] & 0xFFFF; }
+    public int score(int rank) { rank(); return scores[checkIndex(rank)]; }
+
+    /**
+     * Build a result object for the row at a rank.
+     *
+     * @param rank Row index in ranking order
+     * @return Result for the row
+     */
+    public Matcher.MatchResult get(int rank) {
+        rank();
+        int i = checkIndex(rank);
+        int s = seekerSlots[i];
+        int j = jobSlots[i];
+        boolean current = corpus.layout() == layout;
+        return new Matcher.MatchResult(seekerAt(s), jobAt(j), overlaps[i] & 0xFFFF,
+                current ? corpus.jobSkillCount(j) : 0, current ? corpus.seekerSkillCount(s) : 0, scores[i]);
+    }
+
+    // Slots only identify entities while the corpus keeps the layout the rows were collected in
+    private Seeker seekerAt(int seekerSlot) {
+        return corpus.layout() == layout ? corpus.seeker(seekerSlot) : null;
+    }
+
+    private Job jobAt(int jobSlot) {
+        return corpus.layout() == layout ? corpus.job(jobSlot) : null;
+    }
+
+    private void append(int seekerSlot, int jobSlot, int overlapCount, int score) {
+        ensureCapacity(size + 1L);
+        if (size > 0 && arrivedInOrder && compareIds(seekerSlots[size - 1], jobSlots[size - 1], seekerSlot, jobSlot) > 0) {
+            arrivedInOrder = false;
+        }
+        seekerSlots[size] = seekerSlot;
+        jobSlots[size] = jobSlot;
+        overlaps[size] = (short) Math.min(overlapCount, 0xFFFF);
+        scores[size] = (byte) score;
+        size++;
+        ranked = false;
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= seekerSlots.length) {
+            return;
+        }
+        if (required > MAX_SIZE) {
+            throw new IllegalStateException("Match buffer is full: " + size + " pairs");
+        }
+        int capacity = (int) Math.min(MAX_SIZE, Math.max(required, seekerSlots.length + (seekerSlots.length >> 1)));
+        seekerSlots = Arrays.copyOf(seekerSlots, capacity);
+        jobSlots = Arrays.copyOf(jobSlots, capacity);
+        overlaps = Arrays.copyOf(overlaps, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+    }
+
+    private int checkIndex(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " out of bounds for size " + size);
+        }
+        return rank;
+    }
+
+    /**
+     * Reorder the rows by rank with a stable counting sort over the 0-100 score
+     * domain. Matcher visits slots in ascending order and corpora are slotted by id,
+     * so a stable sort by score alone normally yields the ranking; if any row arrived
+     * out of id order, rows are also sorted by id within their score.
+     */
+    private void rank() {
+        if (ranked) {
+            return;
+        }
+        int[] start = new int[102];
+        for (int i = 0; i < size; i++) {
+            start[101 - scores[i]]++;
+        }
+        for (int b = 0, total = 0; b < start.length; b++) {
+            int count = start[b];
+            start[b] = total;
+            total += count;
+        }
+
+        int capacity = seekerSlots.length;
+        int[] rankedSeekers = new int[capacity];
+        int[] rankedJobs = new int[capacity];
+        short[] rankedOverlaps = new short[capacity];
+        byte[] rankedScores = new byte[capacity];
+        int[] next = Arrays.copyOf(start, start.length);
+        for (int i = 0; i < size; i++) {
+            int n = next[101 - scores[i]]++;
+            rankedSeekers[n] = seekerSlots[i];
+            rankedJobs[n] = jobSlots[i];
+            rankedOverlaps[n] = overlaps[i];
+            rankedScores[n] = scores[i];
+        }
+        seekerSlots = rankedSeekers;
+        jobSlots = rankedJobs;
+        overlaps = rankedOverlaps;
+        scores = rankedScores;
+
+        if (!arrivedInOrder) {
+            int largest = 0;
+            for (int b = 0; b + 1 < start.length; b++) {
+                largest = Math.max(largest, start[b + 1] - start[b]);
+            }
+            IdSort sort = new IdSort(largest);
+            for (int b = 0; b + 1 < start.length; b++) {
+                sort.sort(start[b], start[b + 1]);
+            }
+        }
+        ranked = true;
+        // Ranked rows are no longer in id order, so rows appended later must be sorted too
+        arrivedInOrder = size < 2;
+    }
+
+    // Compare two pairs by seeker id, then job id; deleted entities sort first
+    private int compareIds(int seekerSlotA, int jobSlotA, int seekerSlotB, int jobSlotB) {
+        return Long.compare(idKey(seekerSlotA, jobSlotA), idKey(seekerSlotB, jobSlotB));
+    }
+
+    // Seeker id in the high half, job id in the low half, flipped so unsigned order is signed order
+    private long idKey(int seekerSlot, int jobSlot) {
+        return ((long) seekerId(seekerSlot) << 32) | ((jobId(jobSlot) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    private int seekerId(int seekerSlot) {
+        Seeker seeker = seekerAt(seekerSlot);
+        return seeker != null ? seeker.getId() : Integer.MIN_VALUE;
+    }
+
+    private int jobId(int jobSlot) {
+        Job job = jobAt(jobSlot);
+        return job != null ? job.getId() : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Stable sort of row ranges by seeker id, then job id, on primitive keys.
+     * The keys of a range are sorted once, and every row is then moved to the next
+     * position of its key's run, so equal keys keep their arrival order. Scratch
+     * arrays are sized for the largest range and shared by all ranges of one ranking.
+     */
+    private class IdSort {
+        private final long[] keys;
+        private final long[] sortedKeys;
+        private final int[] taken;
+        private final int[] sortedSeekers;
+        private final int[] sortedJobs;
+        private final short[] sortedOverlaps;
+
+        IdSort(int capacity) {
+            keys = new long[capacity];
+            sortedKeys = new long[capacity];
+            taken = new int[capacity];
+            sortedSeekers = new int[capacity];
+            sortedJobs = new int[capacity];
+            sortedOverlaps = new short[capacity];
+        }
+
+        void sort(int from, int to) {
+            int n = to - from;
+            if (n < 2) {
+                return;
+            }
+            for (int i = 0; i < n; i++) {
+                keys[i] = idKey(seekerSlots[from + i], jobSlots[from + i]);
+            }
+            System.arraycopy(keys, 0, sortedKeys, 0, n);
+            Arrays.sort(sortedKeys, 0, n);
+
+            // Rows sharing a key fill its run in arrival order; taken counts the filled positions
+            Arrays.fill(taken, 0, n, 0);
+            for (int i = 0; i < n; i++) {
+                int first = firstOf(keys[i], n);
+                int pos = first + taken[first]++;
+                sortedSeekers[pos] = seekerSlots[from + i];
+                sortedJobs[pos] = jobSlots[from + i];
+                sortedOverlaps[pos] = overlaps[from + i];
+            }
+            System.arraycopy(sortedSeekers, 0, seekerSlots, from, n);
+            System.arraycopy(sortedJobs, 0, jobSlots, from, n);
+            System.arraycopy(sortedOverlaps, 0, overlaps, from, n);
+        }
+
+        private int firstOf(long key, int n) {
+            int low = 0;
+            int high = n;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedKeys[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Read-only list view over the ranked rows.
+     */
+    private class Rows extends AbstractList<Matcher.MatchResult> implements RandomAccess {
+        @Override
+        public Matcher.MatchResult get(int index) {
+            return MatchResultBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.workfusion;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * All-pairs match results kept current as seekers and jobs change.
+ * <p>
+ * The store owns the update path of its {@link MatchCorpus}: register the store,
+ * not the corpus, with {@link Database#addChangeListener}. Pairs are held per seeker
+ * slot in rows sorted by job slot. A seeker change rescores only that seeker's row
+ * against the jobs sharing a skill with it, and a job change updates only that job's
+ * column in the rows of the seekers sharing a skill with it, so a single edit costs
+ * O(M) or O(N) rather than a full O(N·M) run. Pairs scoring below the minimum score
+ * are not stored. Like its corpus, a store must be updated on the thread that reads it.
+ */
+public class MatchStore implements Database.ChangeListener {
+
+    private final MatchCorpus corpus;
+    private final int minScore;
+    private Row[] rows;
+    private long pairs;
+
+    /**
+     * Compute all matches of a corpus and start maintaining them.
+     *
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score to keep (1-100)
+     */
+    public MatchStore(MatchCorpus corpus, int minScore) {
+        if (minScore < 1 || minScore > 100) {
+            throw new IllegalArgumentException("minScore must be between 1 and 100: " + minScore);
+        }
+        this.corpus = corpus;
+        this.minScore = minScore;
+        rows = new Row[corpus.seekerSlots()];
+        Matcher.matchSeekerRange(corpus, 0, corpus.seekerSlots(), minScore,
+                (seekerSlot, jobSlot, overlapCount, score) -> {
+                    if (score >= minScore && row(seekerSlot).insert(jobSlot, overlapCount, score)) {
+                        pairs++;
+                    }
+                });
+    }
+
+    /**
+     * Start maintaining matches already collected into a buffer, for example from
+     * a {@link MatchPublisher} run. The buffer must hold every pair of its corpus at
+     * or above its minimum score, and the corpus must not have changed since.
+     *
+     * @param buffer Buffer holding all pairs of a corpus
+     */
+    public MatchStore(MatchResultBuffer buffer) {
+        if (buffer.minScore < 1 || buffer.minScore > 100) {
+            throw new IllegalArgumentException("minScore must be between 1 and 100: " + buffer.minScore);
+        }
+        this.corpus = buffer.getCorpus();
+        this.minScore = buffer.minScore;
+        rows = new Row[corpus.seekerSlots()];
+        for (int i = 0; i < buffer.size(); i++) {
+            if (row(buffer.seekerSlot(i)).insert(buffer.jobSlot(i), buffer.overlapCount(i), buffer.score(i))) {
+                pairs++;
+            }
+        }
+    }
+
+    public MatchCorpus getCorpus() {
+        return corpus;
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+
+    /**
+     * Get the number of stored pairs.
+     *
+     * @return Pairs scoring at least the minimum score
+     */
+    public synchronized long size() {
+        return pairs;
+    }
+
+    /**
+     * Copy the stored pairs into a buffer for display.
+     * No pair is scored again; the copy only ranks what is already stored.
+     *
+     * @return Buffer holding every stored pair
+     */
+    public synchronized MatchResultBuffer results() {
+        MatchResultBuffer buffer = new MatchResultBuffer(corpus, minScore);
+        for (int s = 0; s < rows.length; s++) {
+            Row row = rows[s];
+            if (row == null) {
+                continue;
+            }
+            for (int i = 0; i < row.size; i++) {
+                int j = row.jobs[i];
+                buffer.offer(corpus, s, j, row.overlaps[i], corpus.jobSkillCount(j), corpus.seekerSkillCount(s),
+                        row.scores[i]);
+            }
+        }
+        return buffer;
+    }
+
+    @Override
+    public synchronized void seekerSaved(Seeker seeker) {
+        corpus.seekerSaved(seeker);
+        int s = corpus.seekerSlotOf(seeker.getId());
+        Row row = row(s);
+        pairs -= row.size;
+        row.size = 0;
+
+        long[] skills = corpus.seekerSkills(s);
+        int seekerSkillCount = corpus.seekerSkillCount(s);
+        BitSet candidates = corpus.jobCandidates(skills);
+        for (int j = candidates.nextSetBit(0); j >= 0; j = candidates.nextSetBit(j + 1)) {
+            int overlapCount = SkillBits.intersectionCount(skills, corpus.jobSkills(j));
+            int score = Matcher.score(overlapCount, seekerSkillCount, corpus.jobSkillCount(j));
+            if (score >= minScore && row.insert(j, overlapCount, score)) {
+                pairs++;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void seekerDeleted(int seekerId) {
+        int s = corpus.seekerSlotOf(seekerId);
+        int[] moved = corpus.removeSeeker(seekerId);
+        if (s >= 0 && s < rows.length && rows[s] != null) {
+            pairs -= rows[s].size;
+            rows[s] = null;
+        }
+        if (moved != null) {
+            // Seeker slots were compacted; move rows down with them
+            Row[] compacted = new Row[corpus.seekerSlots()];
+            for (int old = 0; old < Math.min(moved.length, rows.length); old++) {
+                if (moved[old] >= 0) {
+                    compacted[moved[old]] = rows[old];
+                }
+            }
+            rows = compacted;
+        }
+    }
+
+    @Override
+    public synchronized void jobSaved(Job job) {
+        int j = corpus.jobSlotOf(job.getId());
+        if (j >= 0) {
+            removeColumn(j);
+        }
+        corpus.jobSaved(job);
+        j = corpus.jobSlotOf(job.getId());
+
+        long[] skills = corpus.jobSkills(j);
+        int jobSkillCount = corpus.jobSkillCount(j);
+        BitSet candidates = corpus.seekerCandidates(skills);
+        for (int s = candidates.nextSetBit(0); s >= 0; s = candidates.nextSetBit(s + 1)) {
+            int overlapCount = SkillBits.intersectionCount(corpus.seekerSkills(s), skills);
+            int score = Matcher.score(overlapCount, corpus.seekerSkillCount(s), jobSkillCount);
+            if (score >= minScore && row(s).insert(j, overlapCount, score)) {
+                pairs++;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void jobDeleted(int jobId) {
+        int j = corpus.jobSlotOf(jobId);
+        if (j >= 0) {
+            removeColumn(j);
+        }
+        int[] moved = corpus.removeJob(jobId);
+        if (moved != null) {
+            // Job slots were compacted; renumbering keeps every row sorted by slot
+            for (Row row : rows) {
+                if (row != null) {
+                    for (int i = 0; i < row.size; i++) {
+                        row.jobs[i] = moved[row.jobs[i]];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove a job from the rows of every seeker that may hold it, found through
+     * the job's current skills.
+     */
+    private void removeColumn(int jobSlot) {
+        BitSet candidates = corpus.seekerCandidates(corpus.jobSkills(jobSlot));
+        for (int s = candidates.nextSetBit(0); s >= 0 && s < rows.length; s = candidates.nextSetBit(s + 1)) {
+            if (rows[s] != null && rows[s].remove(jobSlot)) {
+                pairs--;
+            }
+        }
+    }
+
+    private Row row(int seekerSlot) {
+        if (seekerSlot >= rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(seekerSlot + 1, rows.length * 2));
+        }
+        if (rows[seekerSlot] == null) {
+            rows[seekerSlot] = new Row();
+        }
+        return rows[seekerSlot];
+    }
+
+    /**
+     * Matches of one seeker, sorted by job slot.
+     */
+    private static class Row {
+        int[] jobs = new int[4];
+        short[] overlaps = new short[4];
+        byte[] scores = new byte[4];
+        int size;
+
+        boolean insert(int jobSlot, int overlapCount, int score) {
+            int i = Arrays.binarySearch(jobs, 0, size, jobSlot);
+            if (i >= 0) {
+                overlaps[i] = (short) overlapCount;
+                scores[i] = (byte) score;
+                return false;
+            }
+            i = -i - 1;
+            if (size == jobs.length) {
+                jobs = Arrays.copyOf(jobs, size * 2);
+                overlaps = Arrays.copyOf(overlaps, size * 2);
+                scores = Arrays.copyOf(scores, size * 2);
+            }
+            System.arraycopy(jobs, i, jobs, i + 1, size - i);
+            System.arraycopy(overlaps, i, overlaps, i + 1, size - i);
+            System.arraycopy(scores, i, scores, i + 1, size - i);
+            jobs[i] = jobSlot;
+            overlaps[i] = (short) overlapCount;
+            scores[i] = (byte) score;
+            size++;
+            return true;
+        }
+
+        boolean remove(int jobSlot) {
+            int i = Arrays.binarySearch(jobs, 0, size, jobSlot);
+            if (i < 0) {
+                return false;
+            }
+            System.arraycopy(jobs, i + 1, jobs, i, size - i - 1);
+            System.arraycopy(overlaps, i + 1, overlaps, i, size - i - 1);
+            System.arraycopy(scores, i + 1, scores, i, size - i - 1);
+            size--;
+            return true;
+        }
+    }
+}
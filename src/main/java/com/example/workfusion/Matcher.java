@@ -1,10 +1,14 @@
 package com.example.workfusion;
 
+import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Matcher class for computing skills overlap between jobs and seekers.
  * Uses Jaccard similarity coefficient to calculate match scores.
+ * Skills are interned in the global {@link SkillDictionary} and compared as
+ * bitset vectors, so scoring a pair is a handful of popcounts.
  */
 public class Matcher {
     
@@ -45,50 +49,250 @@ public class Matcher {
         }
     }
     
+    /**
+     * Ranking order of match results: score descending, then seeker id and job id ascending.
+     */
+    public static final Comparator<MatchResult> RANKING = Comparator
+            .comparingInt(MatchResult::getScore).reversed()
+            .thenComparingInt(r -> r.getSeeker().getId())
+            .thenComparingInt(r -> r.getJob().getId());
+    
+    /**
+     * Receives scored pairs identified by corpus slot. Skill totals are not passed;
+     * they can be read from the corpus.
+     */
+    interface PairSink {
+        void accept(int seekerSlot, int jobSlot, int overlapCount, int score);
+    }
+    
+    // Columns read by prepareFromDatabase
+    private static final EntityMapper.Projection<Seeker> MATCH_SEEKER_COLUMNS =
+            RowMappers.SEEKERS.select("id", "name", "skills", "created_by");
+    private static final EntityMapper.Projection<Job> MATCH_JOB_COLUMNS =
+            RowMappers.JOBS.select("id", "title", "skills", "created_by");
+    
+    // Engine used by the matchAll overloads that do not take one
+    private static volatile MatchEngine defaultEngine = MatchEngine.sequential();
+    
+    /**
+     * Get the engine used for full match runs when none is given.
+     * 
+     * @return The default engine
+     */
+    public static MatchEngine getDefaultEngine() {
+        return defaultEngine;
+    }
+    
+    /**
+     * Switch full match runs between the sequential and a parallel engine.
+     * 
+     * @param engine The engine to use by default
+     */
+    public static void setDefaultEngine(MatchEngine engine) {
+        defaultEngine = Objects.requireNonNull(engine);
+    }
+    
+    /**
+     * Prepare seekers and jobs for repeated matching.
+     * Each skills string is normalized once; the returned corpus can be passed
+     * to the corpus-based match methods any number of times.
+     * 
+     * @param seekers The list of seekers
+     * @param jobs The list of jobs
+     * @return Prepared corpus
+     */
+    public static MatchCorpus prepare(List<Seeker> seekers, List<Job> jobs) {
+        return new MatchCorpus(seekers, jobs);
+    }
+    
+    /**
+     * Prepare all seekers and jobs in the database for matching.
+     * Rows are streamed in id order straight into the corpus, so no intermediate
+     * lists are built. Only the columns matching and its results need are read;
+     * job descriptions and seeker emails are left empty.
+     * 
+     * @return Prepared corpus
+     * @throws SQLException If reading seekers or jobs fails
+     */
+    public static MatchCorpus prepareFromDatabase() throws SQLException {
+        MatchCorpus corpus = new MatchCorpus(Collections.emptyList(), Collections.emptyList());
+        Database.forEachSeeker(MATCH_SEEKER_COLUMNS, corpus::seekerSaved);
+        Database.forEachJob(MATCH_JOB_COLUMNS, corpus::jobSaved);
+        return corpus;
+    }
+    
     /**
      * Match a single seeker with all jobs.
+     * Every job is scored, including jobs without any shared skill (score 0).
      * 
      * @param seeker The seeker to match
      * @param jobs The list of jobs to match against
      * @return List of match results sorted by score (highest first)
      */
     public static List<MatchResult> matchSeekerWithJobs(Seeker seeker, List<Job> jobs) {
-        List<MatchResult> results = new ArrayList<>();
+        return matchSeekerWithEveryJob(seeker, prepare(Collections.emptyList(), jobs), MatchCollector.sorted(0));
+    }
+    
+    /**
+     * Match a single seeker with all jobs, keeping only the best results.
+     * Every job is scored, so with {@code minScore} 0 jobs without any shared
+     * skill are returned with score 0.
+     * 
+     * @param seeker The seeker to match
+     * @param jobs The list of jobs to match against
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchSeekerWithJobs(Seeker seeker, List<Job> jobs, int k, int minScore) {
+        return matchSeekerWithEveryJob(seeker, prepare(Collections.emptyList(), jobs), MatchCollector.topK(k, minScore));
+    }
+    
+    // Scores the seeker against every job slot, bypassing the skill index
+    private static List<MatchResult> matchSeekerWithEveryJob(Seeker seeker, MatchCorpus corpus, MatchCollector collector) {
+        long[] seekerSkills = corpus.skillsOf(seeker);
+        int seekerSkillCount = SkillBits.cardinality(seekerSkills);
         
-        Set<String> seekerSkills = normalizeSkills(seeker.getSkills());
+        for (int j = 0; j < corpus.jobSlots(); j++) {
+            calculateMatch(seeker, corpus.job(j), seekerSkills, seekerSkillCount,
+                    corpus.jobSkills(j), corpus.jobSkillCount(j), collector);
+        }
         
-        for (Job job : jobs) {
-            Set<String> jobSkills = normalizeSkills(job.getSkills());
-            MatchResult result = calculateMatch(seeker, job, seekerSkills, jobSkills);
-            results.add(result);
+        return collector.results();
+    }
+    
+    /**
+     * Match a single seeker with the jobs of a prepared corpus.
+     * Candidates come from the corpus skill index, so only jobs sharing at
+     * least one skill with the seeker are scored and returned.
+     * 
+     * @param seeker The seeker to match
+     * @param corpus The prepared corpus holding the jobs to match against
+     * @return List of match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchSeekerWithJobs(Seeker seeker, MatchCorpus corpus) {
+        return matchSeekerWithJobs(seeker, corpus, MatchCollector.sorted(0));
+    }
+    
+    /**
+     * Match a single seeker with the jobs of a prepared corpus, keeping only the best results.
+     * 
+     * @param seeker The seeker to match
+     * @param corpus The prepared corpus holding the jobs to match against
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchSeekerWithJobs(Seeker seeker, MatchCorpus corpus, int k, int minScore) {
+        return matchSeekerWithJobs(seeker, corpus, MatchCollector.topK(k, minScore));
+    }
+    
+    /**
+     * Match a single seeker with the jobs of a prepared corpus into a collector.
+     * 
+     * @param seeker The seeker to match
+     * @param corpus The prepared corpus holding the jobs to match against
+     * @param collector Collector deciding which results to keep
+     * @return The collected results
+     */
+    public static List<MatchResult> matchSeekerWithJobs(Seeker seeker, MatchCorpus corpus, MatchCollector collector) {
+        long[] seekerSkills = corpus.skillsOf(seeker);
+        int seekerSkillCount = SkillBits.cardinality(seekerSkills);
+        BitSet candidates = corpus.jobCandidates(seekerSkills);
+        
+        for (int j = candidates.nextSetBit(0); j >= 0; j = candidates.nextSetBit(j + 1)) {
+            calculateMatch(seeker, corpus.job(j), seekerSkills, seekerSkillCount,
+                    corpus.jobSkills(j), corpus.jobSkillCount(j), collector);
         }
         
-        // Sort by score descending
-        results.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-        return results;
+        return collector.results();
     }
     
     /**
      * Match a single job with all seekers.
+     * Every seeker is scored, including seekers without any shared skill (score 0).
      * 
      * @param job The job to match
      * @param seekers The list of seekers to match against
      * @return List of match results sorted by score (highest first)
      */
     public static List<MatchResult> matchJobWithSeekers(Job job, List<Seeker> seekers) {
-        List<MatchResult> results = new ArrayList<>();
+        return matchJobWithEverySeeker(job, prepare(seekers, Collections.emptyList()), MatchCollector.sorted(0));
+    }
+    
+    /**
+     * Match a single job with all seekers, keeping only the best results.
+     * Every seeker is scored, so with {@code minScore} 0 seekers without any
+     * shared skill are returned with score 0.
+     * 
+     * @param job The job to match
+     * @param seekers The list of seekers to match against
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchJobWithSeekers(Job job, List<Seeker> seekers, int k, int minScore) {
+        return matchJobWithEverySeeker(job, prepare(seekers, Collections.emptyList()), MatchCollector.topK(k, minScore));
+    }
+    
+    // Scores the job against every seeker slot, bypassing the skill index
+    private static List<MatchResult> matchJobWithEverySeeker(Job job, MatchCorpus corpus, MatchCollector collector) {
+        long[] jobSkills = corpus.skillsOf(job);
+        int jobSkillCount = SkillBits.cardinality(jobSkills);
         
-        Set<String> jobSkills = normalizeSkills(job.getSkills());
+        for (int s = 0; s < corpus.seekerSlots(); s++) {
+            calculateMatch(corpus.seeker(s), job, corpus.seekerSkills(s), corpus.seekerSkillCount(s),
+                    jobSkills, jobSkillCount, collector);
+        }
         
-        for (Seeker seeker : seekers) {
-            Set<String> seekerSkills = normalizeSkills(seeker.getSkills());
-            MatchResult result = calculateMatch(seeker, job, seekerSkills, jobSkills);
-            results.add(result);
+        return collector.results();
+    }
+    
+    /**
+     * Match a single job with the seekers of a prepared corpus.
+     * Candidates come from the corpus skill index, so only seekers sharing at
+     * least one skill with the job are scored and returned.
+     * 
+     * @param job The job to match
+     * @param corpus The prepared corpus holding the seekers to match against
+     * @return List of match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchJobWithSeekers(Job job, MatchCorpus corpus) {
+        return matchJobWithSeekers(job, corpus, MatchCollector.sorted(0));
+    }
+    
+    /**
+     * Match a single job with the seekers of a prepared corpus, keeping only the best results.
+     * 
+     * @param job The job to match
+     * @param corpus The prepared corpus holding the seekers to match against
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchJobWithSeekers(Job job, MatchCorpus corpus, int k, int minScore) {
+        return matchJobWithSeekers(job, corpus, MatchCollector.topK(k, minScore));
+    }
+    
+    /**
+     * Match a single job with the seekers of a prepared corpus into a collector.
+     * 
+     * @param job The job to match
+     * @param corpus The prepared corpus holding the seekers to match against
+     * @param collector Collector deciding which results to keep
+     * @return The collected results
+     */
+    public static List<MatchResult> matchJobWithSeekers(Job job, MatchCorpus corpus, MatchCollector collector) {
+        long[] jobSkills = corpus.skillsOf(job);
+        int jobSkillCount = SkillBits.cardinality(jobSkills);
+        BitSet candidates = corpus.seekerCandidates(jobSkills);
+        
+        for (int s = candidates.nextSetBit(0); s >= 0; s = candidates.nextSetBit(s + 1)) {
+            calculateMatch(corpus.seeker(s), job, corpus.seekerSkills(s), corpus.seekerSkillCount(s),
+                    jobSkills, jobSkillCount, collector);
         }
         
-        // Sort by score descending
-        results.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-        return results;
+        return collector.results();
     }
     
     /**
@@ -99,21 +303,245 @@ public class Matcher {
      * @return List of match results sorted by score (highest first)
      */
     public static List<MatchResult> matchAll(List<Seeker> seekers, List<Job> jobs) {
-        List<MatchResult> results = new ArrayList<>();
+        return matchAll(prepare(seekers, jobs));
+    }
+    
+    /**
+     * Match all seekers with all jobs, returning only pairs scoring at least {@code minScore}.
+     * Uses length and prefix filtering (see {@link PrefixFilterJoin}) so most pairs
+     * that cannot reach the threshold are never scored.
+     * 
+     * @param seekers The list of seekers
+     * @param jobs The list of jobs
+     * @param minScore Lowest score to return (0-100)
+     * @return List of match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(List<Seeker> seekers, List<Job> jobs, int minScore) {
+        return matchAll(prepare(seekers, jobs), minScore);
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus, returning only pairs
+     * scoring at least {@code minScore}.
+     * 
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score to return (0-100)
+     * @return List of match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus, int minScore) {
+        if (minScore <= 0) {
+            // Every pair qualifies, so there is nothing to prune
+            return matchAll(corpus);
+        }
+        return new PrefixFilterJoin(minScore).matchAll(corpus, MatchCollector.sorted(minScore));
+    }
+    
+    /**
+     * Match all seekers with all jobs, keeping only the best results.
+     * 
+     * @param seekers The list of seekers
+     * @param jobs The list of jobs
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(List<Seeker> seekers, List<Job> jobs, int k, int minScore) {
+        return matchAll(prepare(seekers, jobs), k, minScore);
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus.
+     * Every pair is scored, including pairs without any shared skill.
+     * 
+     * @param corpus The prepared corpus
+     * @return List of match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus) {
+        return matchAll(corpus, defaultEngine, () -> MatchCollector.sorted(0));
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus, keeping only the best results.
+     * 
+     * @param corpus The prepared corpus
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus, int k, int minScore) {
+        return matchAll(corpus, k, minScore, defaultEngine);
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus on a given engine,
+     * keeping only the best results.
+     * 
+     * @param corpus The prepared corpus
+     * @param k Maximum number of results to return
+     * @param minScore Lowest score to return (0-100)
+     * @param engine Sequential or parallel engine
+     * @return Up to {@code k} match results sorted by score (highest first)
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus, int k, int minScore, MatchEngine engine) {
+        return matchAll(corpus, engine, () -> MatchCollector.topK(k, minScore));
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus on a given engine.
+     * A parallel engine asks for one collector per chunk of seekers and merges
+     * them in seeker order, so the results equal those of the sequential engine.
+     * 
+     * @param corpus The prepared corpus
+     * @param engine Sequential or parallel engine
+     * @param collectors Creates an empty collector for each chunk
+     * @return The collected results
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus, MatchEngine engine, Supplier<MatchCollector> collectors) {
+        return engine.collect(corpus, collectors).results();
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus into a compact buffer.
+     * 
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score to keep (0-100)
+     * @return Buffer holding every pair scoring at least {@code minScore}
+     */
+    public static MatchResultBuffer matchAllBuffered(MatchCorpus corpus, int minScore) {
+        return matchAllBuffered(corpus, minScore, defaultEngine);
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus into a compact buffer
+     * on a given engine. The buffer stores slots and scores in primitive arrays; use it for bulk runs
+     * whose results would not fit in memory as {@link MatchResult} objects.
+     * 
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score to keep (0-100)
+     * @param engine Sequential or parallel engine
+     * @return Buffer holding every pair scoring at least {@code minScore}
+     */
+    public static MatchResultBuffer matchAllBuffered(MatchCorpus corpus, int minScore, MatchEngine engine) {
+        return (MatchResultBuffer) engine.collect(corpus, () -> new MatchResultBuffer(corpus, minScore));
+    }
+    
+    /**
+     * Match all seekers with all jobs of a prepared corpus into a collector.
+     * 
+     * @param corpus The prepared corpus
+     * @param collector Collector deciding which results to keep
+     * @return The collected results
+     */
+    public static List<MatchResult> matchAll(MatchCorpus corpus, MatchCollector collector) {
+        matchSeekerRange(corpus, 0, corpus.seekerSlots(), collector);
+        return collector.results();
+    }
+    
+    /**
+     * Score every job against the seekers in a range of corpus slots.
+     * <p>
+     * When the collector accepts zero scores every pair is emitted, so overlaps for
+     * all jobs are computed at once with the dense {@link SkillBlock} kernel.
+     * Otherwise overlap counts are computed as a sparse matrix product of the seeker
+     * rows and the transposed job matrix: for each seeker skill, the jobs in that skill
+     * row get their overlap incremented in a primitive accumulator, and only jobs with
+     * a nonzero overlap are scored.
+     * 
+     * @param corpus The prepared corpus
+     * @param fromSlot First seeker slot (inclusive)
+     * @param toSlot Last seeker slot (exclusive)
+     * @param collector Collector receiving the scored pairs
+     */
+    static void matchSeekerRange(MatchCorpus corpus, int fromSlot, int toSlot, MatchCollector collector) {
+        matchSeekerRange(corpus, fromSlot, toSlot, collector.minScore,
+                (seekerSlot, jobSlot, overlapCount, score) -> collector.offer(corpus, seekerSlot, jobSlot,
+                        overlapCount, corpus.jobSkillCount(jobSlot), corpus.seekerSkillCount(seekerSlot), score));
+    }
+    
+    /**
+     * Score every job against the seekers in a range of corpus slots, passing the
+     * pairs to a slot callback instead of a collector. Pairs below {@code minScore}
+     * may still be passed; with a minimum score above 0 only pairs sharing at least
+     * one skill are.
+     * 
+     * @param corpus The prepared corpus
+     * @param fromSlot First seeker slot (inclusive)
+     * @param toSlot Last seeker slot (exclusive)
+     * @param minScore Lowest score the caller keeps (0-100)
+     * @param sink Callback receiving the scored pairs in slot order
+     */
+    static void matchSeekerRange(MatchCorpus corpus, int fromSlot, int toSlot, int minScore, PairSink sink) {
+        if (minScore <= 0) {
+            matchSeekerRangeDense(corpus, fromSlot, toSlot, sink);
+        } else {
+            matchSeekerRangeSparse(corpus, fromSlot, toSlot, sink);
+        }
+    }
+    
+    private static void matchSeekerRangeDense(MatchCorpus corpus, int fromSlot, int toSlot, PairSink sink) {
+        SkillBlock jobBlock = corpus.jobBlock();
+        int[] overlap = new int[jobBlock.size()];
         
-        for (Seeker seeker : seekers) {
-            Set<String> seekerSkills = normalizeSkills(seeker.getSkills());
+        for (int s = fromSlot; s < toSlot; s++) {
+            Seeker seeker = corpus.seeker(s);
+            if (seeker == null) {
+                continue;
+            }
+            int seekerSkillCount = corpus.seekerSkillCount(s);
+            jobBlock.intersectionCounts(corpus.seekerSkills(s), overlap);
             
-            for (Job job : jobs) {
-                Set<String> jobSkills = normalizeSkills(job.getSkills());
-                MatchResult result = calculateMatch(seeker, job, seekerSkills, jobSkills);
-                results.add(result);
+            for (int j = 0; j < overlap.length; j++) {
+                Job job = corpus.job(j);
+                if (job != null) {
+                    sink.accept(s, j, overlap[j], score(overlap[j], seekerSkillCount, corpus.jobSkillCount(j)));
+                }
             }
         }
+    }
+    
+    private static void matchSeekerRangeSparse(MatchCorpus corpus, int fromSlot, int toSlot, PairSink sink) {
+        SkillMatrix seekerRows = corpus.seekerMatrix();
+        SkillMatrix jobsBySkill = corpus.jobsBySkill();
+        int jobSlots = jobsBySkill.columnCount();
+        
+        int[] overlap = new int[jobSlots];
+        int[] touched = new int[jobSlots];
         
-        // Sort by score descending
-        results.sort((a, b) -> Integer.compare(b.getScore(), a.getScore()));
-        return results;
+        for (int s = fromSlot; s < toSlot; s++) {
+            Seeker seeker = corpus.seeker(s);
+            if (seeker == null) {
+                continue;
+            }
+            int seekerSkillCount = corpus.seekerSkillCount(s);
+            
+            int touchedCount = 0;
+            for (int n = seekerRows.rowStart(s); n < seekerRows.rowEnd(s); n++) {
+                int skill = seekerRows.column(n);
+                if (skill >= jobsBySkill.rows()) {
+                    continue;
+                }
+                for (int m = jobsBySkill.rowStart(skill); m < jobsBySkill.rowEnd(skill); m++) {
+                    int j = jobsBySkill.column(m);
+                    if (overlap[j]++ == 0) {
+                        touched[touchedCount++] = j;
+                    }
+                }
+            }
+            
+            // Visit jobs in slot order so results stay tie-broken by id
+            Arrays.sort(touched, 0, touchedCount);
+            for (int t = 0; t < touchedCount; t++) {
+                int j = touched[t];
+                sink.accept(s, j, overlap[j], score(overlap[j], seekerSkillCount, corpus.jobSkillCount(j)));
+                overlap[j] = 0;
+            }
+        }
+    }
+    
+    private static void offer(MatchCorpus corpus, int seekerSlot, int jobSlot, int overlapCount,
+                              int seekerSkillCount, int jobSkillCount, MatchCollector collector) {
+        int score = score(overlapCount, seekerSkillCount, jobSkillCount);
+        collector.offer(corpus, seekerSlot, jobSlot, overlapCount, jobSkillCount, seekerSkillCount, score);
     }
     
     /**
@@ -121,49 +549,57 @@ public class Matcher {
      * 
      * @param seeker The seeker
      * @param job The job
-     * @param seekerSkills Normalized set of seeker skills
-     * @param jobSkills Normalized set of job skills
-     * @return Match result with score and statistics
-     */
-    private static MatchResult calculateMatch(Seeker seeker, Job job, Set<String> seekerSkills, Set<String> jobSkills) {
-        // Calculate intersection
-        Set<String> intersection = new HashSet<>(seekerSkills);
-        intersection.retainAll(jobSkills);
-        
-        int overlapCount = intersection.size();
-        int totalJobSkills = jobSkills.size();
-        int totalSeekerSkills = seekerSkills.size();
-        
+     * @param seekerSkills Skill vector of the seeker
+     * @param seekerSkillCount Number of seeker skills
+     * @param jobSkills Skill vector of the job
+     * @param jobSkillCount Number of job skills
+     * @param collector Collector receiving the score and statistics
+     */
+    static void calculateMatch(Seeker seeker, Job job, long[] seekerSkills, int seekerSkillCount,
+                               long[] jobSkills, int jobSkillCount, MatchCollector collector) {
+        int overlapCount = SkillBits.intersectionCount(seekerSkills, jobSkills);
+        int score = score(overlapCount, seekerSkillCount, jobSkillCount);
+        collector.offer(seeker, job, overlapCount, jobSkillCount, seekerSkillCount, score);
+    }
+    
+    /**
+     * Calculate match between a seeker and a job of a corpus, identified by slot.
+     * 
+     * @param corpus The prepared corpus
+     * @param seekerSlot Slot of the seeker
+     * @param jobSlot Slot of the job
+     * @param collector Collector receiving the score and statistics
+     */
+    static void calculateMatch(MatchCorpus corpus, int seekerSlot, int jobSlot, MatchCollector collector) {
+        int overlapCount = SkillBits.intersectionCount(corpus.seekerSkills(seekerSlot), corpus.jobSkills(jobSlot));
+        offer(corpus, seekerSlot, jobSlot, overlapCount, corpus.seekerSkillCount(seekerSlot),
+                corpus.jobSkillCount(jobSlot), collector);
+    }
+    
+    /**
+     * Compute the Jaccard similarity of two skill sets as a percentage.
+     * 
+     * @param overlapCount Size of the intersection
+     * @param seekerSkillCount Size of the seeker skill set
+     * @param jobSkillCount Size of the job skill set
+     * @return Score from 0 to 100
+     */
+    static int score(int overlapCount, int seekerSkillCount, int jobSkillCount) {
         // Calculate Jaccard similarity coefficient
-        int unionSize = seekerSkills.size() + jobSkills.size() - overlapCount;
+        int unionSize = seekerSkillCount + jobSkillCount - overlapCount;
         double jaccard = unionSize == 0 ? 0 : (double) overlapCount / unionSize;
         
         // Convert to percentage (0-100)
-        int score = (int) Math.round(jaccard * 100);
-        
-        return new MatchResult(seeker, job, overlapCount, totalJobSkills, totalSeekerSkills, score);
+        return (int) Math.round(jaccard * 100);
     }
     
     /**
-     * Normalize skills string to a set of trimmed, lowercase skills.
+     * Normalize skills string to a bitset of interned skill ids.
      * 
      * @param skills Comma-separated skills string
-     * @return Set of normalized skills
+     * @return Skill vector with one bit per trimmed, lowercase skill
      */
-    private static Set<String> normalizeSkills(String skills) {
-        Set<String> skillSet = new HashSet<>();
-        
-        if (skills != null && !skills.trim().isEmpty()) {
-            String[] skillArray = skills.split(",");
-            
-            for (String skill : skillArray) {
-                String trimmedSkill = skill.trim().toLowerCase();
-                if (!trimmedSkill.isEmpty()) {
-                    skillSet.add(trimmedSkill);
-                }
-            }
-        }
-        
-        return skillSet;
+    static long[] normalizeSkills(String skills) {
+        return SkillDictionary.global().encode(skills);
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,18 @@
 package com.example.workfusion;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 
-import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 /**
  * Controller for the matches view.
@@ -15,11 +20,31 @@ import java.util.List;
  */
 public class MatchesController {
 
+    // The table only ever shows the best matches, so results are bounded to this many rows
+    private static final int MAX_RESULTS = 200;
+
+    // Seekers scored per streamed batch of the first Match All run
+    private static final int STREAM_CHUNK = 256;
+
     private AppController appController;
     private final ObservableList<Seeker> seekerList = FXCollections.observableArrayList();
     private final ObservableList<Job> jobList = FXCollections.observableArrayList();
     private final ObservableList<Matcher.MatchResult> matchResults = FXCollections.observableArrayList();
 
+    // Shared across view instances; kept current by Database change notifications,
+    // which are applied on the JavaFX thread because that thread also reads them
+    private static MatchCorpus corpus;
+    private static MatchStore matchStore;
+
+    // Changes made while the corpus is being prepared, replayed onto it once it is ready
+    private static List<Consumer<Database.ChangeListener>> pendingChanges;
+
+    // Streaming Match All run in progress, if any
+    private Flow.Subscription matchAllRun;
+
+    // In-database match run whose results the table is waiting for, if any
+    private CompletableFuture<List<Matcher.MatchResult>> inDatabaseRun;
+
     @FXML
     private ComboBox<Seeker> seekerComboBox;
 
@@ -35,6 +60,9 @@ public class MatchesController {
     @FXML
     private Button matchAllButton;
 
+    @FXML
+    private CheckBox inDatabaseCheckBox;
+
     @FXML
     private TableView<Matcher.MatchResult> resultsTable;
 
@@ -100,22 +128,41 @@ public class MatchesController {
         totalSeekerSkillsColumn.setCellValueFactory(new PropertyValueFactory<>("totalSeekerSkills"));
         scoreColumn.setCellValueFactory(new PropertyValueFactory<>("score"));
         
-        resultsTable.setItems(matchResults);
+        showRows(matchResults);
     }
 
     /**
      * Load seekers and jobs from the database.
+     * The first load also prepares the shared match corpus, streamed from the
+     * database by {@link Matcher#prepareFromDatabase()} next to the list reads, so
+     * later loads do not have to rebuild it. Change notifications are subscribed to
+     * before the data is read, so an edit saved while the load is running is
+     * replayed onto the corpus.
      */
     private void loadSeekersAndJobs() {
-        try {
-            seekerList.clear();
-            jobList.clear();
-            
-            seekerList.addAll(Database.getAllSeekers());
-            jobList.addAll(Database.getAllJobs());
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to load data: " + e.getMessage());
+        if (corpus == null && pendingChanges == null) {
+            pendingChanges = new ArrayList<>();
+            Database.addChangeListener(new FxChanges());
         }
+        CompletableFuture<List<Seeker>> seekers = AsyncData.getAllSeekers();
+        CompletableFuture<List<Job>> jobs = AsyncData.getAllJobs();
+        CompletableFuture<MatchCorpus> prepared = corpus == null
+                ? AsyncData.prepareCorpus() : CompletableFuture.completedFuture(null);
+        CompletableFuture.allOf(seekers, jobs, prepared).whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to load data: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            seekerList.setAll(seekers.join());
+            jobList.setAll(jobs.join());
+            
+            // The corpus was built on a data thread; from here on it belongs to this thread
+            if (corpus == null) {
+                corpus = prepared.join();
+                pendingChanges.forEach(change -> change.accept(corpus));
+                pendingChanges = null;
+            }
+        }, Platform::runLater);
     }
 
     /**
@@ -128,14 +175,21 @@ public class MatchesController {
             return;
         }
         
-        try {
-            List<Job> jobs = Database.getAllJobs();
-            List<Matcher.MatchResult> results = Matcher.matchSeekerWithJobs(selectedSeeker, jobs);
-            matchResults.clear();
-            matchResults.addAll(results);
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to perform matching: " + e.getMessage());
+        cancelMatchAll();
+        if (inDatabaseCheckBox.isSelected()) {
+            showInDatabaseMatches(AsyncData.supply(
+                    () -> SqlMatcher.matchSeekerWithJobs(selectedSeeker.getId(), MAX_RESULTS, 0)));
+            return;
         }
+        
+        if (corpus == null) {
+            return;
+        }
+        
+        List<Matcher.MatchResult> results = Matcher.matchSeekerWithJobs(selectedSeeker, corpus, MAX_RESULTS, 0);
+        matchResults.clear();
+        matchResults.addAll(results);
+        showRows(matchResults);
     }
 
     /**
@@ -148,29 +202,168 @@ public class MatchesController {
             return;
         }
         
-        try {
-            List<Seeker> seekers = Database.getAllSeekers();
-            List<Matcher.MatchResult> results = Matcher.matchJobWithSeekers(selectedJob, seekers);
-            matchResults.clear();
-            matchResults.addAll(results);
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to perform matching: " + e.getMessage());
+        cancelMatchAll();
+        if (inDatabaseCheckBox.isSelected()) {
+            showInDatabaseMatches(AsyncData.supply(
+                    () -> SqlMatcher.matchJobWithSeekers(selectedJob.getId(), MAX_RESULTS, 0)));
+            return;
         }
+        
+        if (corpus == null) {
+            return;
+        }
+        
+        List<Matcher.MatchResult> results = Matcher.matchJobWithSeekers(selectedJob, corpus, MAX_RESULTS, 0);
+        matchResults.clear();
+        matchResults.addAll(results);
+        showRows(matchResults);
     }
 
     /**
      * Match all seekers with all jobs.
+     * The first run streams its results into the table batch by batch and then
+     * keeps them in a store that is maintained on every job and seeker change;
+     * later runs read the store, and the table reads result objects only for the
+     * rows it displays. Matching in the database shows only the best
+     * {@code MAX_RESULTS} pairs instead.
      */
     private void matchAll() {
-        try {
-            List<Seeker> seekers = Database.getAllSeekers();
-            List<Job> jobs = Database.getAllJobs();
-            
-            List<Matcher.MatchResult> results = Matcher.matchAll(seekers, jobs);
-            matchResults.clear();
-            matchResults.addAll(results);
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to perform matching: " + e.getMessage());
+        cancelMatchAll();
+        if (inDatabaseCheckBox.isSelected()) {
+            showInDatabaseMatches(AsyncData.supply(() -> SqlMatcher.matchAll(MAX_RESULTS, 1)));
+            return;
+        }
+        
+        if (corpus == null) {
+            return;
+        }
+        
+        if (matchStore != null) {
+            showAllMatches();
+            return;
+        }
+        
+        matchResults.clear();
+        showRows(matchResults);
+        // The run reads its own copy off the JavaFX thread while edits keep changing the corpus
+        MatchCorpus runCorpus = corpus.copy();
+        long version = corpus.version();
+        MatchResultBuffer buffer = new MatchResultBuffer(runCorpus, 1);
+        MatchPublisher publisher = new MatchPublisher(runCorpus, 1, STREAM_CHUNK, ForkJoinPool.commonPool());
+        publisher.subscribe(new Flow.Subscriber<List<Matcher.MatchResult>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                matchAllRun = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(List<Matcher.MatchResult> batch) {
+                Platform.runLater(() -> {
+                    if (matchAllRun != subscription) {
+                        return;
+                    }
+                    for (Matcher.MatchResult result : batch) {
+                        buffer.offer(result);
+                    }
+                    matchResults.addAll(batch);
+                    subscription.request(1);
+                });
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                Platform.runLater(() -> {
+                    if (matchAllRun == subscription) {
+                        matchAllRun = null;
+                        showError("Matching Error", "Failed to match all: " + throwable.getMessage());
+                    }
+                });
+            }
+
+            @Override
+            public void onComplete() {
+                Platform.runLater(() -> {
+                    if (matchAllRun != subscription) {
+                        return;
+                    }
+                    matchAllRun = null;
+                    if (matchStore == null) {
+                        // Pairs streamed before a concurrent edit may be stale, so rescore then
+                        if (corpus.version() == version) {
+                            matchStore = new MatchStore(buffer);
+                            corpus = runCorpus;
+                        } else {
+                            matchStore = new MatchStore(corpus, 1);
+                        }
+                    }
+                    showAllMatches();
+                });
+            }
+        });
+    }
+
+    /**
+     * Show every stored match, ranked.
+     */
+    private void showAllMatches() {
+        MatchResultBuffer results = matchStore.results();
+        matchResults.clear();
+        showRows(FXCollections.observableList(results.asList()));
+    }
+
+    /**
+     * Put rows into the results table. Only the editable {@code matchResults} list can be
+     * sorted by column; stored results are a read-only view ranked by score, and sorting
+     * it would materialize every row, so the columns are not sortable while it is shown.
+     *
+     * @param rows The rows to show
+     */
+    private void showRows(ObservableList<Matcher.MatchResult> rows) {
+        boolean sortable = rows == matchResults;
+        if (!sortable) {
+            resultsTable.getSortOrder().clear();
+        }
+        for (TableColumn<Matcher.MatchResult, ?> column : resultsTable.getColumns()) {
+            column.setSortable(sortable);
+        }
+        resultsTable.setItems(rows);
+    }
+
+    /**
+     * Show the results of a match run by {@link SqlMatcher} once they arrive.
+     *
+     * @param results Pending ranked results
+     */
+    private void showInDatabaseMatches(CompletableFuture<List<Matcher.MatchResult>> results) {
+        matchResults.clear();
+        showRows(matchResults);
+        inDatabaseRun = results;
+        results.whenCompleteAsync((rows, error) -> {
+            if (inDatabaseRun != results) {
+                return;
+            }
+            inDatabaseRun = null;
+            if (error != null) {
+                showError("Matching Error", "Failed to match in database: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            matchResults.setAll(rows);
+        }, Platform::runLater);
+    }
+
+    /**
+     * Stop a streaming Match All run, or stop waiting for an in-database one,
+     * when it is no longer needed.
+     */
+    private void cancelMatchAll() {
+        inDatabaseRun = null;
+        if (matchAllRun != null) {
+            matchAllRun.cancel();
+            matchAllRun = null;
         }
     }
 
@@ -187,4 +380,43 @@ public class MatchesController {
         alert.setContentText(message);
         alert.showAndWait();
     }
-}
\ No newline at end of file
+
+    /**
+     * Forwards database changes to the JavaFX thread and applies them there to the
+     * match store once it exists, otherwise to the corpus, or keeps them until the
+     * corpus is prepared.
+     */
+    private static class FxChanges implements Database.ChangeListener {
+        @Override
+        public void seekerSaved(Seeker seeker) {
+            apply(target -> target.seekerSaved(seeker));
+        }
+
+        @Override
+        public void seekerDeleted(int seekerId) {
+            apply(target -> target.seekerDeleted(seekerId));
+        }
+
+        @Override
+        public void jobSaved(Job job) {
+            apply(target -> target.jobSaved(job));
+        }
+
+        @Override
+        public void jobDeleted(int jobId) {
+            apply(target -> target.jobDeleted(jobId));
+        }
+
+        private void apply(Consumer<Database.ChangeListener> change) {
+            Platform.runLater(() -> {
+                if (matchStore != null) {
+                    change.accept(matchStore);
+                } else if (corpus != null) {
+                    change.accept(corpus);
+                } else {
+                    pendingChanges.add(change);
+                }
+            });
+        }
+    }
+}
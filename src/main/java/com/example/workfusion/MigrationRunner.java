@@ -0,0 +1,255 @@
+package com.example.workfusion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versioned schema migrations run over a single connection.
+ * <p>
+ * Migrations are SQL scripts under {@code /sql/migrations} on the classpath,
+ * named {@code V<version>__<description>.sql} and listed in {@link #MIGRATIONS}
+ * in version order. The {@code schema_version} table records every applied
+ * version, so a start against a current schema costs one query and runs no DDL.
+ * Pending scripts are applied in order under a MySQL named lock, so two
+ * instances starting at once do not both apply them. MySQL commits DDL
+ * implicitly, so a script is not atomic; its version is recorded only once all
+ * of its statements have run, and a failed script is retried on the next start.
+ * Scripts should therefore be safe to run again, for example with
+ * {@code IF NOT EXISTS}. Creating an index or adding a column that already exists
+ * is tolerated, so databases set up before this runner existed can be brought
+ * under it and a script that added a column can be run again.
+ * <p>
+ * Statements are split at semicolons that end a line; {@code --} comment lines
+ * are skipped. Scripts must not contain stored procedures or triggers.
+ * <p>
+ * Data migrations that need Java, such as parsing skills strings, are listed
+ * without the {@code .sql} suffix and run by {@link #runJava}.
+ */
+public class MigrationRunner {
+
+    /** Migration scripts, oldest first. Append new scripts; never edit applied ones. */
+    static final String[] MIGRATIONS = {
+            "V1__create_tables.sql",
+            "V2__add_keyset_indexes.sql",
+            "V3__seed_sample_data.sql",
+            "V4__create_skill_tables.sql",
+            "V5__backfill_skills",
+            "V6__add_skill_counts.sql",
+            "V7__add_job_search_index.sql",
+    };
+
+    private static final String LOCATION = "/sql/migrations/";
+    private static final String LOCK_NAME = "workfusion_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    // MySQL error codes
+    private static final int NO_SUCH_TABLE = 1146;
+    private static final int DUPLICATE_FIELD_NAME = 1060;
+    private static final int DUPLICATE_KEY_NAME = 1061;
+
+    private final String[] migrations;
+
+    public MigrationRunner() {
+        this(MIGRATIONS);
+    }
+
+    MigrationRunner(String[] migrations) {
+        this.migrations = migrations;
+    }
+
+    /**
+     * Get the version the scripts bring the schema to.
+     *
+     * @return Version of the last script
+     */
+    public int getLatestVersion() {
+        return migrations.length == 0 ? 0 : versionOf(migrations[migrations.length - 1]);
+    }
+
+    /**
+     * Apply every pending migration.
+     *
+     * @param conn Connection to run on; it is not closed
+     * @return Scripts applied, in order; empty if the schema was current
+     * @throws SQLException If a migration fails; earlier migrations stay applied
+     */
+    public List<String> migrate(Connection conn) throws SQLException {
+        int latest = getLatestVersion();
+        if (currentVersion(conn) >= latest) {
+            return List.of();
+        }
+
+        acquireLock(conn);
+        try {
+            createVersionTable(conn);
+            // Another instance may have migrated while we waited for the lock
+            int current = currentVersion(conn);
+            List<String> applied = new ArrayList<>();
+            for (String script : migrations) {
+                int version = versionOf(script);
+                if (version > current) {
+                    apply(conn, script, version);
+                    applied.add(script);
+                }
+            }
+            return applied;
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    /**
+     * Get the highest applied version.
+     *
+     * @param conn Connection to query
+     * @return Applied version, 0 if no migration has run yet
+     * @throws SQLException If there's a database error
+     */
+    public int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            if (e.getErrorCode() == NO_SUCH_TABLE) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private void createVersionTable(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS schema_version ("
+                    + "version INT PRIMARY KEY, "
+                    + "script VARCHAR(200) NOT NULL, "
+                    + "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP"
+                    + ")");
+        }
+    }
+
+    private void apply(Connection conn, String script, int version) throws SQLException {
+        if (isScript(script)) {
+            runScript(conn, script);
+        } else {
+            try {
+                runJava(conn, script);
+            } catch (SQLException e) {
+                throw new SQLException("Migration " + script + " failed: " + e.getMessage(),
+                        e.getSQLState(), e.getErrorCode(), e);
+            }
+        }
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, script) VALUES (?, ?)")) {
+            pstmt.setInt(1, version);
+            pstmt.setString(2, script);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void runScript(Connection conn, String script) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : readStatements(script)) {
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    if (e.getErrorCode() != DUPLICATE_KEY_NAME && e.getErrorCode() != DUPLICATE_FIELD_NAME) {
+                        throw new SQLException("Migration " + script + " failed: " + e.getMessage(),
+                                e.getSQLState(), e.getErrorCode(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void runJava(Connection conn, String migration) throws SQLException {
+        switch (migration) {
+            case "V5__backfill_skills":
+                Database.backfillSkills(conn);
+                break;
+            default:
+                throw new SQLException("Unknown Java migration: " + migration);
+        }
+    }
+
+    static boolean isScript(String migration) {
+        return migration.endsWith(".sql");
+    }
+
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for the migration lock");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        }
+    }
+
+    /**
+     * Read the statements of a script.
+     *
+     * @param script Script file name
+     * @return Statements in script order, without their terminating semicolons
+     * @throws SQLException If the script is missing or cannot be read
+     */
+    static List<String> readStatements(String script) throws SQLException {
+        InputStream in = MigrationRunner.class.getResourceAsStream(LOCATION + script);
+        if (in == null) {
+            throw new SQLException("Migration script not found: " + LOCATION + script);
+        }
+
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                if (current.length() > 0) {
+                    current.append('\n');
+                }
+                current.append(line);
+                if (trimmed.endsWith(";")) {
+                    current.setLength(current.lastIndexOf(";"));
+                    statements.add(current.toString().trim());
+                    current.setLength(0);
+                }
+            }
+        } catch (IOException e) {
+            throw new SQLException("Error reading migration script " + script + ": " + e.getMessage(), e);
+        }
+        if (current.toString().trim().length() > 0) {
+            statements.add(current.toString().trim());
+        }
+        return statements;
+    }
+
+    static int versionOf(String script) {
+        int end = script.indexOf("__");
+        if (!script.startsWith("V") || end < 2) {
+            throw new IllegalArgumentException("Migration script name must be V<version>__<description>.sql: " + script);
+        }
+        return Integer.parseInt(script.substring(1, end));
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.workfusion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Approximate all-pairs matcher based on MinHash signatures and locality-sensitive hashing.
+ * <p>
+ * Every skill set gets a signature of {@code bands * rows} min-hashes. Two sets agree on
+ * one min-hash with probability equal to their Jaccard similarity, so a pair becomes a
+ * candidate when all rows of at least one band agree. Candidates are then rescored exactly
+ * with the regular {@link Matcher} scoring, so returned scores are never approximate; only
+ * pairs can be missed. More bands raise recall, more rows per band raise precision.
+ */
+public class MinHashMatcher {
+
+    private final int bands;
+    private final int rows;
+    private final long[] seeds;
+
+    /**
+     * Create a matcher with the given LSH shape.
+     *
+     * @param bands Number of bands
+     * @param rows Number of min-hashes per band
+     * @param seed Seed for the hash functions
+     */
+    public MinHashMatcher(int bands, int rows, long seed) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("bands and rows must be positive: " + bands + "x" + rows);
+        }
+        this.bands = bands;
+        this.rows = rows;
+        this.seeds = new long[bands * rows];
+        long state = seed;
+        for (int i = 0; i < seeds.length; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+    }
+
+    public int getBands() { return bands; }
+    public int getRows() { return rows; }
+    public int getNumHashes() { return seeds.length; }
+
+    /**
+     * Compute the MinHash signature of a skill vector.
+     *
+     * @param skills Skill vector
+     * @return One minimum hash per hash function, or {@code null} for an empty set
+     */
+    public long[] signature(long[] skills) {
+        if (SkillBits.cardinality(skills) == 0) {
+            return null;
+        }
+        long[] signature = new long[seeds.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int word = 0; word < skills.length; word++) {
+            long bits = skills[word];
+            while (bits != 0) {
+                int skill = (word << 6) + Long.numberOfTrailingZeros(bits);
+                for (int h = 0; h < seeds.length; h++) {
+                    long hash = mix(skill ^ seeds[h]);
+                    if (hash < signature[h]) {
+                        signature[h] = hash;
+                    }
+                }
+                bits &= bits - 1;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Match all seekers with all jobs of a corpus approximately.
+     *
+     * @param corpus The prepared corpus
+     * @param collector Collector receiving the exactly rescored candidate pairs
+     * @return The collected results
+     */
+    public List<Matcher.MatchResult> matchAll(MatchCorpus corpus, MatchCollector collector) {
+        int jobSlots = corpus.jobSlots();
+
+        // One hash table per band from band key to the job slots in that bucket;
+        // element 0 of each bucket array holds its size
+        List<Map<Long, int[]>> tables = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            tables.add(new HashMap<>());
+        }
+        for (int j = 0; j < jobSlots; j++) {
+            if (corpus.job(j) == null) {
+                continue;
+            }
+            long[] signature = signature(corpus.jobSkills(j));
+            if (signature == null) {
+                continue;
+            }
+            for (int b = 0; b < bands; b++) {
+                addToBucket(tables.get(b), bandKey(signature, b), j);
+            }
+        }
+
+        int[] seenBy = new int[jobSlots];
+        Arrays.fill(seenBy, -1);
+        int[] candidates = new int[Math.max(1, jobSlots)];
+
+        for (int s = 0; s < corpus.seekerSlots(); s++) {
+            Seeker seeker = corpus.seeker(s);
+            if (seeker == null) {
+                continue;
+            }
+            long[] signature = signature(corpus.seekerSkills(s));
+            if (signature == null) {
+                continue;
+            }
+
+            int count = 0;
+            for (int b = 0; b < bands; b++) {
+                int[] bucket = tables.get(b).get(bandKey(signature, b));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 1; i <= bucket[0]; i++) {
+                    int j = bucket[i];
+                    if (seenBy[j] != s) {
+                        seenBy[j] = s;
+                        candidates[count++] = j;
+                    }
+                }
+            }
+
+            // Visit candidates in slot order so results stay tie-broken by id
+            Arrays.sort(candidates, 0, count);
+            for (int c = 0; c < count; c++) {
+                int j = candidates[c];
+                Matcher.calculateMatch(corpus, s, j, collector);
+            }
+        }
+
+        return collector.results();
+    }
+
+    /**
+     * Measure how many of the exact matches scoring at least {@code minScore} the
+     * approximate matcher finds, and how long both take.
+     *
+     * @param corpus The prepared corpus
+     * @param minScore Lowest score counted as a match (at least 1)
+     * @return Recall report
+     */
+    public Report measureRecall(MatchCorpus corpus, int minScore) {
+        int threshold = Math.max(1, minScore);
+
+        long start = System.nanoTime();
+        List<Matcher.MatchResult> exact = Matcher.matchAll(corpus, MatchEngine.sequential(),
+                () -> MatchCollector.sorted(threshold));
+        long exactNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<Matcher.MatchResult> approximate = matchAll(corpus, MatchCollector.sorted(threshold));
+        long approximateNanos = System.nanoTime() - start;
+
+        Set<Long> found = new HashSet<>();
+        for (Matcher.MatchResult result : approximate) {
+            found.add(pairKey(result));
+        }
+        int hits = 0;
+        for (Matcher.MatchResult result : exact) {
+            if (found.contains(pairKey(result))) {
+                hits++;
+            }
+        }
+        return new Report(exact.size(), hits, exactNanos, approximateNanos);
+    }
+
+    /**
+     * Outcome of {@link #measureRecall(MatchCorpus, int)}.
+     */
+    public static class Report {
+        private final int exactMatches;
+        private final int foundMatches;
+        private final long exactNanos;
+        private final long approximateNanos;
+
+        public Report(int exactMatches, int foundMatches, long exactNanos, long approximateNanos) {
+            this.exactMatches = exactMatches;
+            this.foundMatches = foundMatches;
+            this.exactNanos = exactNanos;
+            this.approximateNanos = approximateNanos;
+        }
+
+        public int getExactMatches() { return exactMatches; }
+        public int getFoundMatches() { return foundMatches; }
+        public long getExactNanos() { return exactNanos; }
+        public long getApproximateNanos() { return approximateNanos; }
+
+        public double getRecall() {
+            return exactMatches == 0 ? 1.0 : (double) foundMatches / exactMatches;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Recall: %.3f (%d/%d), exact: %d ms, approximate: %d ms",
+                getRecall(), foundMatches, exactMatches, exactNanos / 1_000_000, approximateNanos / 1_000_000);
+        }
+    }
+
+    private long bandKey(long[] signature, int band) {
+        long key = band;
+        for (int r = band * rows; r < (band + 1) * rows; r++) {
+            key = mix(key * 31 + signature[r]);
+        }
+        return key;
+    }
+
+    private static long pairKey(Matcher.MatchResult result) {
+        return ((long) result.getSeeker().getId() << 32) | (result.getJob().getId() & 0xFFFFFFFFL);
+    }
+
+    private static void addToBucket(Map<Long, int[]> table, long key, int slot) {
+        int[] bucket = table.get(key);
+        if (bucket == null) {
+            bucket = new int[4];
+        } else if (bucket[0] + 1 == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+        } else {
+            bucket[++bucket[0]] = slot;
+            return;
+        }
+        bucket[++bucket[0]] = slot;
+        table.put(key, bucket);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
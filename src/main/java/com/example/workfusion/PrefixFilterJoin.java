@@ -0,0 +1,167 @@
+package com.example.workfusion;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Thresholded similarity join in the style of PPJoin.
+ * <p>
+ * Skills are ordered by global rarity, rarest first. For a Jaccard threshold {@code t},
+ * two sets can only qualify if their sizes are within a factor {@code t} of each other
+ * (length filter) and if they share a skill within their first {@code n - ceil(t * n) + 1}
+ * rarest skills (prefix filter). Only job prefixes are indexed and only pairs passing both
+ * filters are scored, which prunes most pairs at useful thresholds. The surviving pairs are
+ * scored exactly, so the result equals an exhaustive run filtered by the same minimum score.
+ */
+public class PrefixFilterJoin {
+
+    private static final double EPSILON = 1e-9;
+
+    private final int minScore;
+    private final double threshold;
+    private long candidatePairs;
+
+    /**
+     * Create a join for a minimum score.
+     *
+     * @param minScore Lowest score to return (1-100)
+     */
+    public PrefixFilterJoin(int minScore) {
+        if (minScore < 1 || minScore > 100) {
+            throw new IllegalArgumentException("minScore must be between 1 and 100: " + minScore);
+        }
+        this.minScore = minScore;
+        // Scores are rounded, so a score of m needs a Jaccard value of at least (m - 0.5) / 100
+        this.threshold = (minScore - 0.5) / 100.0;
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+
+    /**
+     * Get the number of pairs that passed the filters in the last run.
+     *
+     * @return Candidate pairs scored by the last {@link #matchAll} call
+     */
+    public long getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    /**
+     * Match all seekers with all jobs of a corpus, returning only pairs at or above the minimum score.
+     *
+     * @param corpus The prepared corpus
+     * @param collector Collector receiving the qualifying pairs
+     * @return The collected results
+     */
+    public List<Matcher.MatchResult> matchAll(MatchCorpus corpus, MatchCollector collector) {
+        int[] rank = rarityRanks(corpus);
+        int jobSlots = corpus.jobSlots();
+
+        // Index the prefix of every job: rarity rank -> job slots, element 0 holds the size
+        int[][] prefixIndex = new int[rank.length][];
+        for (int j = 0; j < jobSlots; j++) {
+            int size = corpus.jobSkillCount(j);
+            if (corpus.job(j) == null || size == 0) {
+                continue;
+            }
+            int[] ranks = sortedRanks(corpus.jobSkills(j), size, rank);
+            for (int p = 0; p < prefixLength(size); p++) {
+                int[] postings = prefixIndex[ranks[p]];
+                if (postings == null) {
+                    postings = new int[4];
+                } else if (postings[0] + 1 == postings.length) {
+                    postings = Arrays.copyOf(postings, postings.length * 2);
+                }
+                postings[++postings[0]] = j;
+                prefixIndex[ranks[p]] = postings;
+            }
+        }
+
+        int[] seenBy = new int[jobSlots];
+        Arrays.fill(seenBy, -1);
+        int[] candidates = new int[Math.max(1, jobSlots)];
+        candidatePairs = 0;
+
+        for (int s = 0; s < corpus.seekerSlots(); s++) {
+            Seeker seeker = corpus.seeker(s);
+            int size = corpus.seekerSkillCount(s);
+            if (seeker == null || size == 0) {
+                continue;
+            }
+            double minSize = threshold * size - EPSILON;
+            double maxSize = size / threshold + EPSILON;
+            int[] ranks = sortedRanks(corpus.seekerSkills(s), size, rank);
+
+            int count = 0;
+            for (int p = 0; p < prefixLength(size); p++) {
+                int[] postings = prefixIndex[ranks[p]];
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 1; i <= postings[0]; i++) {
+                    int j = postings[i];
+                    int jobSize = corpus.jobSkillCount(j);
+                    if (seenBy[j] != s && jobSize >= minSize && jobSize <= maxSize) {
+                        seenBy[j] = s;
+                        candidates[count++] = j;
+                    }
+                }
+            }
+            candidatePairs += count;
+
+            // Visit candidates in slot order so results stay tie-broken by id
+            Arrays.sort(candidates, 0, count);
+            for (int c = 0; c < count; c++) {
+                int j = candidates[c];
+                Matcher.calculateMatch(corpus, s, j, collector);
+            }
+        }
+
+        return collector.results();
+    }
+
+    private int prefixLength(int size) {
+        return size - (int) Math.ceil(threshold * size - EPSILON) + 1;
+    }
+
+    /**
+     * Rank every skill id by how many seekers and jobs have it, rarest first.
+     */
+    private static int[] rarityRanks(MatchCorpus corpus) {
+        int skills = SkillDictionary.global().size();
+        int[] frequency = new int[skills];
+        for (int skill = 0; skill < skills; skill++) {
+            frequency[skill] = corpus.seekerIndex().frequency(skill) + corpus.jobIndex().frequency(skill);
+        }
+
+        Integer[] order = new Integer[skills];
+        for (int skill = 0; skill < skills; skill++) {
+            order[skill] = skill;
+        }
+        Arrays.sort(order, (a, b) -> frequency[a] != frequency[b]
+                ? Integer.compare(frequency[a], frequency[b])
+                : Integer.compare(a, b));
+
+        int[] rank = new int[skills];
+        for (int r = 0; r < skills; r++) {
+            rank[order[r]] = r;
+        }
+        return rank;
+    }
+
+    private static int[] sortedRanks(long[] skills, int size, int[] rank) {
+        int[] ranks = new int[size];
+        int n = 0;
+        for (int word = 0; word < skills.length; word++) {
+            long bits = skills[word];
+            while (bits != 0) {
+                ranks[n++] = rank[(word << 6) + Long.numberOfTrailingZeros(bits)];
+                bits &= bits - 1;
+            }
+        }
+        Arrays.sort(ranks);
+        return ranks;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.workfusion;
+
+/**
+ * Column mappings of the entity tables, shared by {@link Database},
+ * {@link ItemDao} and {@link com.example.workfusion.dao.UserDao}.
+ * The {@code *_ROW} projections select every column the entities hold.
+ */
+public final class RowMappers {
+
+    public static final EntityMapper<Job> JOBS = EntityMapper.of("jobs", Job::new)
+            .intColumn("id", Job::setId)
+            .stringColumn("title", Job::setTitle)
+            .stringColumn("description", Job::setDescription)
+            .stringColumn("skills", Job::setSkills)
+            .intColumn("created_by", Job::setCreatedBy)
+            .timestampColumn("created_at", Job::setCreatedAt)
+            .build();
+
+    public static final EntityMapper<Seeker> SEEKERS = EntityMapper.of("seekers", Seeker::new)
+            .intColumn("id", Seeker::setId)
+            .stringColumn("name", Seeker::setName)
+            .stringColumn("email", Seeker::setEmail)
+            .stringColumn("skills", Seeker::setSkills)
+            .intColumn("created_by", Seeker::setCreatedBy)
+            .timestampColumn("created_at", Seeker::setCreatedAt)
+            .build();
+
+    public static final EntityMapper<User> USERS = EntityMapper.of("users", User::new)
+            .intColumn("id", User::setId)
+            .stringColumn("username", User::setUsername)
+            .stringColumn("password_hash", User::setPasswordHash)
+            .stringColumn("role", User::setRole)
+            .timestampColumn("created_at", User::setCreatedAt)
+            .build();
+
+    public static final EntityMapper<Item> ITEMS = EntityMapper.of("items", Item::new)
+            .intColumn("id", Item::setId)
+            .stringColumn("name", Item::setName)
+            .stringColumn("description", Item::setDescription)
+            .intColumn("quantity", Item::setQuantity)
+            .timestampColumn("created_at", Item::setCreatedAt)
+            .build();
+
+    public static final EntityMapper.Projection<Job> JOB_ROW = JOBS.all();
+    public static final EntityMapper.Projection<Seeker> SEEKER_ROW = SEEKERS.all();
+    public static final EntityMapper.Projection<User> USER_ROW = USERS.all();
+    public static final EntityMapper.Projection<Item> ITEM_ROW = ITEMS.all();
+
+    private RowMappers() {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.workfusion;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -7,7 +8,6 @@ import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
 
-import java.sql.SQLException;
 import java.util.Optional;
 
 /**
@@ -107,12 +107,13 @@ public class SeekersController {
      * Load seekers from the database into the table.
      */
     private void loadSeekers() {
-        try {
-            seekerList.clear();
-            seekerList.addAll(Database.getAllSeekers());
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to load seekers: " + e.getMessage());
-        }
+        AsyncData.getAllSeekers().whenCompleteAsync((seekers, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to load seekers: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            seekerList.setAll(seekers);
+        }, Platform::runLater);
     }
 
     /**
@@ -135,15 +136,16 @@ public class SeekersController {
             return;
         }
         
-        try {
-            Seeker seeker = new Seeker(name, email, skills, AppController.getCurrentUser().getId());
-            Database.insertSeeker(seeker);
-            seekerList.add(seeker);
+        Seeker seeker = new Seeker(name, email, skills, AppController.getCurrentUser().getId());
+        AsyncData.insertSeeker(seeker).whenCompleteAsync((added, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to add seeker: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            seekerList.add(added);
             clearForm();
             showInfo("Success", "Seeker added successfully.");
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to add seeker: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -172,18 +174,19 @@ public class SeekersController {
             return;
         }
         
-        try {
-            selectedSeeker.setName(name);
-            selectedSeeker.setEmail(email);
-            selectedSeeker.setSkills(skills);
-            
-            Database.updateSeeker(selectedSeeker);
-            int selectedIndex = seekersTable.getSelectionModel().getSelectedIndex();
-            seekerList.set(selectedIndex, selectedSeeker);
+        // Edit a copy; the selected seeker is shared with the cache until the update succeeds
+        Seeker updatedSeeker = new Seeker(selectedSeeker.getId(), name, email, skills,
+                selectedSeeker.getCreatedBy(), selectedSeeker.getCreatedAt());
+        
+        int selectedIndex = seekersTable.getSelectionModel().getSelectedIndex();
+        AsyncData.updateSeeker(updatedSeeker).whenCompleteAsync((ignored, error) -> {
+            if (error != null) {
+                showError("Database Error", "Failed to update seeker: " + AsyncData.cause(error).getMessage());
+                return;
+            }
+            seekerList.set(selectedIndex, updatedSeeker);
             showInfo("Success", "Seeker updated successfully.");
-        } catch (SQLException e) {
-            showError("Database Error", "Failed to update seeker: " + e.getMessage());
-        }
+        }, Platform::runLater);
     }
 
     /**
@@ -204,14 +207,15 @@ public class SeekersController {
         
         Optional<ButtonType> result = confirmation.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            try {
-                Database.deleteSeeker(selectedSeeker.getId());
+            AsyncData.deleteSeeker(selectedSeeker.getId()).whenCompleteAsync((ignored, error) -> {
+                if (error != null) {
+                    showError("Database Error", "Failed to delete seeker: " + AsyncData.cause(error).getMessage());
+                    return;
+                }
                 seekerList.remove(selectedSeeker);
                 clearForm();
                 showInfo("Success", "Seeker deleted successfully.");
-            } catch (SQLException e) {
-                showError("Database Error", "Failed to delete seeker: " + e.getMessage());
-            }
+            }, Platform::runLater);
         }
     }
 
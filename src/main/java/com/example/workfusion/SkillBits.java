@@ -0,0 +1,43 @@
+package com.example.workfusion;
+
+/**
+ * Set operations on bitset skill vectors produced by {@link SkillDictionary#encode(String)}.
+ * Vectors may have different lengths; missing words are treated as zero.
+ */
+public final class SkillBits {
+
+    /** Shared vector for an empty skill set. */
+    public static final long[] EMPTY = new long[0];
+
+    private SkillBits() {}
+
+    /**
+     * Count the skills in a vector.
+     *
+     * @param bits Skill vector
+     * @return Number of set bits
+     */
+    public static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Count the skills shared by two vectors.
+     *
+     * @param a First skill vector
+     * @param b Second skill vector
+     * @return Size of the intersection
+     */
+    public static int intersectionCount(long[] a, long[] b) {
+        int words = Math.min(a.length, b.length);
+        int count = 0;
+        for (int i = 0; i < words; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+}
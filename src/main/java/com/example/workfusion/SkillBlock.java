@@ -0,0 +1,87 @@
+package com.example.workfusion;
+
+/**
+ * A block of skill vectors packed word-major for bulk intersection counting.
+ * Word {@code w} of vector {@code j} is stored at {@code words[w * stride + j]}, so one
+ * query word can be ANDed against the same word of many vectors with contiguous loads.
+ * When the SIMD kernel is used, the stride is padded to a multiple of its lane count,
+ * so the loads of the last pass stay inside the block whatever the vector width.
+ */
+public class SkillBlock {
+
+    private static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    // Vectors handled per pass of the SIMD kernel
+    private static final int LANES = VECTORIZED ? VectorSkillKernel.lanes() : 1;
+
+    private final int size;
+    private final int stride;
+    private final int wordCount;
+    private final long[] words;
+
+    /**
+     * Pack a range of skill vectors.
+     *
+     * @param vectors Skill vectors
+     * @param count Number of vectors to pack from the start of {@code vectors}
+     */
+    public SkillBlock(long[][] vectors, int count) {
+        int maxWords = 0;
+        for (int j = 0; j < count; j++) {
+            maxWords = Math.max(maxWords, vectors[j].length);
+        }
+        this.size = count;
+        this.stride = (count + LANES - 1) / LANES * LANES;
+        this.wordCount = maxWords;
+        this.words = new long[maxWords * stride];
+        for (int j = 0; j < count; j++) {
+            long[] vector = vectors[j];
+            for (int w = 0; w < vector.length; w++) {
+                words[w * stride + j] = vector[w];
+            }
+        }
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Tell whether intersection counts run on the Vector API.
+     * This is the case when the {@code jdk.incubator.vector} module is present
+     * (for example with {@code --add-modules jdk.incubator.vector}).
+     *
+     * @return true if the SIMD kernel is used
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Count the skills a query vector shares with every vector of the block.
+     *
+     * @param query Skill vector of the query
+     * @param counts Receives one count per packed vector; length at least {@link #size()}
+     */
+    public void intersectionCounts(long[] query, int[] counts) {
+        if (VECTORIZED) {
+            intersectionCountsVector(query, counts);
+        } else {
+            intersectionCountsScalar(query, counts);
+        }
+    }
+
+    void intersectionCountsScalar(long[] query, int[] counts) {
+        int queryWords = Math.min(query.length, wordCount);
+        for (int j = 0; j < size; j++) {
+            int count = 0;
+            for (int w = 0; w < queryWords; w++) {
+                count += Long.bitCount(query[w] & words[w * stride + j]);
+            }
+            counts[j] = count;
+        }
+    }
+
+    void intersectionCountsVector(long[] query, int[] counts) {
+        VectorSkillKernel.intersectionCounts(query, Math.min(query.length, wordCount), words, stride, size, counts);
+    }
+}
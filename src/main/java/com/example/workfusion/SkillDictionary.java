@@ -0,0 +1,160 @@
+package com.example.workfusion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Dictionary that interns normalized skill names to dense integer ids.
+ * Ids are handed out in first-seen order starting at 0, so they can be used
+ * directly as bit positions in a skill vector (see {@link SkillBits}).
+ * Skill names longer than {@link #MAX_SKILL_LENGTH} are ignored, as they are by
+ * the {@code skills} table, so in-memory and in-database matching count the same skills.
+ */
+public class SkillDictionary {
+
+    /** Longest skill name kept; matches the {@code skills.name} column. */
+    public static final int MAX_SKILL_LENGTH = 255;
+
+    private static final SkillDictionary GLOBAL = new SkillDictionary();
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Get the process-wide skill dictionary shared by all matchers.
+     *
+     * @return The global dictionary
+     */
+    public static SkillDictionary global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Get the id of a normalized skill, assigning a new one if it has not been seen yet.
+     *
+     * @param skill Trimmed, lowercase skill name
+     * @return Dense id of the skill
+     */
+    public int idOf(String skill) {
+        Integer id = ids.get(skill);
+        if (id != null) {
+            return id;
+        }
+        synchronized (names) {
+            id = ids.get(skill);
+            if (id == null) {
+                id = names.size();
+                names.add(skill);
+                ids.put(skill, id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Look up the id of a normalized skill without assigning one.
+     *
+     * @param skill Trimmed, lowercase skill name
+     * @return Id of the skill, or -1 if it is unknown
+     */
+    public int lookup(String skill) {
+        Integer id = ids.get(skill);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Get the skill name for an id.
+     *
+     * @param id Skill id
+     * @return Normalized skill name
+     */
+    public String nameOf(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    /**
+     * Get the number of skills interned so far.
+     *
+     * @return Dictionary size
+     */
+    public int size() {
+        synchronized (names) {
+            return names.size();
+        }
+    }
+
+    /**
+     * Split a comma-separated skills string into normalized skill names, the same
+     * way {@link #encode} does, for example to store them in the skill tables.
+     *
+     * @param skills Comma-separated skills string
+     * @return Distinct trimmed, lower-cased, non-blank skills of at most
+     *         {@link #MAX_SKILL_LENGTH} characters, in order of first appearance
+     */
+    public static List<String> parse(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return new ArrayList<>();
+        }
+        Set<String> parsed = new LinkedHashSet<>();
+        for (String skill : skills.split(",", -1)) {
+            skill = skill.trim().toLowerCase();
+            if (!skill.isEmpty() && skill.length() <= MAX_SKILL_LENGTH) {
+                parsed.add(skill);
+            }
+        }
+        return new ArrayList<>(parsed);
+    }
+
+    /**
+     * Encode a comma-separated skills string as a bitset skill vector.
+     * Skills are trimmed and lower-cased; blanks, duplicates and names longer
+     * than {@link #MAX_SKILL_LENGTH} are ignored.
+     *
+     * @param skills Comma-separated skills string
+     * @return Bitset with one bit set per distinct skill id
+     */
+    public long[] encode(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return SkillBits.EMPTY;
+        }
+
+        int[] skillIds = new int[8];
+        int count = 0;
+        int maxId = -1;
+        int start = 0;
+        int length = skills.length();
+
+        while (start <= length) {
+            int end = skills.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            String skill = skills.substring(start, end).trim().toLowerCase();
+            if (!skill.isEmpty() && skill.length() <= MAX_SKILL_LENGTH) {
+                int id = idOf(skill);
+                if (count == skillIds.length) {
+                    skillIds = Arrays.copyOf(skillIds, count * 2);
+                }
+                skillIds[count++] = id;
+                maxId = Math.max(maxId, id);
+            }
+            start = end + 1;
+        }
+
+        if (count == 0) {
+            return SkillBits.EMPTY;
+        }
+
+        long[] bits = new long[(maxId >>> 6) + 1];
+        for (int i = 0; i < count; i++) {
+            bits[skillIds[i] >>> 6] |= 1L << skillIds[i];
+        }
+        return bits;
+    }
+}
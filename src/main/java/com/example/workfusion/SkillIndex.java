@@ -0,0 +1,138 @@
+package com.example.workfusion;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Inverted index from skill id to the posting list of entities that have the skill.
+ * Entities are identified by their {@link MatchCorpus} slot. Posting lists are kept
+ * in ascending slot order so candidate sets come out in a stable order.
+ */
+public class SkillIndex {
+
+    private static final int[] EMPTY_POSTINGS = new int[0];
+
+    private int[][] postings = new int[0][];
+    private int[] sizes = new int[0];
+
+    /**
+     * Add an entity to the posting lists of all its skills.
+     *
+     * @param slot Corpus slot of the entity
+     * @param skills Skill vector of the entity
+     */
+    public void add(int slot, long[] skills) {
+        for (int word = 0; word < skills.length; word++) {
+            long bits = skills[word];
+            while (bits != 0) {
+                int skill = (word << 6) + Long.numberOfTrailingZeros(bits);
+                insert(skill, slot);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Remove an entity from the posting lists of all its skills.
+     *
+     * @param slot Corpus slot of the entity
+     * @param skills Skill vector the entity was added with
+     */
+    public void remove(int slot, long[] skills) {
+        for (int word = 0; word < skills.length; word++) {
+            long bits = skills[word];
+            while (bits != 0) {
+                int skill = (word << 6) + Long.numberOfTrailingZeros(bits);
+                delete(skill, slot);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Get the posting list of a skill.
+     *
+     * @param skill Skill id
+     * @return Slots of entities with the skill, in ascending order
+     */
+    public int[] postings(int skill) {
+        if (skill >= sizes.length || sizes[skill] == 0) {
+            return EMPTY_POSTINGS;
+        }
+        return Arrays.copyOf(postings[skill], sizes[skill]);
+    }
+
+    /**
+     * Get the number of entities that have a skill.
+     *
+     * @param skill Skill id
+     * @return Length of the posting list
+     */
+    public int frequency(int skill) {
+        return skill < sizes.length ? sizes[skill] : 0;
+    }
+
+    /**
+     * Collect every entity that shares at least one skill with the query.
+     * Only the posting lists of the query skills are touched.
+     *
+     * @param skills Skill vector of the query
+     * @return Set of candidate slots
+     */
+    public BitSet candidates(long[] skills) {
+        BitSet candidates = new BitSet();
+        for (int word = 0; word < skills.length; word++) {
+            long bits = skills[word];
+            while (bits != 0) {
+                int skill = (word << 6) + Long.numberOfTrailingZeros(bits);
+                if (skill < sizes.length) {
+                    int[] list = postings[skill];
+                    for (int i = 0; i < sizes[skill]; i++) {
+                        candidates.set(list[i]);
+                    }
+                }
+                bits &= bits - 1;
+            }
+        }
+        return candidates;
+    }
+
+    private void insert(int skill, int slot) {
+        if (skill >= sizes.length) {
+            int capacity = Math.max(skill + 1, sizes.length * 2);
+            postings = Arrays.copyOf(postings, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        int[] list = postings[skill];
+        int size = sizes[skill];
+        if (list == null) {
+            list = new int[4];
+        } else if (size == list.length) {
+            list = Arrays.copyOf(list, size * 2);
+        }
+
+        int pos = Arrays.binarySearch(list, 0, size, slot);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        System.arraycopy(list, pos, list, pos + 1, size - pos);
+        list[pos] = slot;
+        postings[skill] = list;
+        sizes[skill] = size + 1;
+    }
+
+    private void delete(int skill, int slot) {
+        if (skill >= sizes.length || sizes[skill] == 0) {
+            return;
+        }
+        int[] list = postings[skill];
+        int size = sizes[skill];
+        int pos = Arrays.binarySearch(list, 0, size, slot);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(list, pos + 1, list, pos, size - pos - 1);
+        sizes[skill] = size - 1;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.workfusion;
+
+import java.util.Arrays;
+
+/**
+ * Sparse 0/1 skill-incidence matrix in compressed sparse row (CSR) form.
+ * Row {@code r} holds the column indexes {@code columns[rowStart[r]] .. columns[rowStart[r + 1] - 1]}
+ * in ascending order. Rows are corpus slots and columns skill ids, or the other way
+ * round for a transposed matrix.
+ */
+public class SkillMatrix {
+
+    private final int rows;
+    private final int columnCount;
+    private final int[] rowStart;
+    private final int[] columns;
+
+    private SkillMatrix(int rows, int columnCount, int[] rowStart, int[] columns) {
+        this.rows = rows;
+        this.columnCount = columnCount;
+        this.rowStart = rowStart;
+        this.columns = columns;
+    }
+
+    /**
+     * Build a matrix with one row per skill vector.
+     *
+     * @param vectors Skill vectors, one per row
+     * @param rows Number of rows to take from {@code vectors}
+     * @param columnCount Number of columns (skill ids)
+     * @return Matrix whose row {@code r} lists the skill ids of {@code vectors[r]}
+     */
+    public static SkillMatrix ofRows(long[][] vectors, int rows, int columnCount) {
+        int[] rowStart = new int[rows + 1];
+        for (int r = 0; r < rows; r++) {
+            rowStart[r + 1] = rowStart[r] + SkillBits.cardinality(vectors[r]);
+        }
+
+        int[] columns = new int[rowStart[rows]];
+        for (int r = 0; r < rows; r++) {
+            int n = rowStart[r];
+            long[] skills = vectors[r];
+            for (int word = 0; word < skills.length; word++) {
+                long bits = skills[word];
+                while (bits != 0) {
+                    columns[n++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                }
+            }
+        }
+        return new SkillMatrix(rows, columnCount, rowStart, columns);
+    }
+
+    /**
+     * Transpose the matrix with a counting pass, keeping rows sorted.
+     *
+     * @return Matrix with rows and columns swapped
+     */
+    public SkillMatrix transpose() {
+        int[] start = new int[columnCount + 1];
+        for (int n = 0; n < columns.length; n++) {
+            start[columns[n] + 1]++;
+        }
+        for (int c = 0; c < columnCount; c++) {
+            start[c + 1] += start[c];
+        }
+
+        int[] next = Arrays.copyOf(start, columnCount);
+        int[] transposed = new int[columns.length];
+        for (int r = 0; r < rows; r++) {
+            for (int n = rowStart[r]; n < rowStart[r + 1]; n++) {
+                transposed[next[columns[n]]++] = r;
+            }
+        }
+        return new SkillMatrix(columnCount, rows, start, transposed);
+    }
+
+    public int rows() { return rows; }
+    public int columnCount() { return columnCount; }
+    public int rowStart(int row) { return rowStart[row]; }
+    public int rowEnd(int row) { return rowStart[row + 1]; }
+    public int column(int n) { return columns[n]; }
+    public int nonZeros() { return columns.length; }
+}
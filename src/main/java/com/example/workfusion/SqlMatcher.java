@@ -0,0 +1,115 @@
+package com.example.workfusion;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matcher that scores pairs inside MySQL instead of in the JVM.
+ * <p>
+ * Overlap counts come from a GROUP BY join of the {@code seeker_skills} and
+ * {@code job_skills} link tables on their skill indexes, and Jaccard scores are
+ * derived from the {@code skill_count} columns, so only the top-K ranked rows
+ * travel to the client. Scores and ranking match {@link Matcher} with
+ * {@link Matcher#RANKING}, except that pairs without a shared skill are never
+ * returned; with a minimum score above 0 both engines return the same rows.
+ * Both engines ignore skill names longer than {@link SkillDictionary#MAX_SKILL_LENGTH},
+ * so they count the same skills.
+ */
+public class SqlMatcher {
+
+    private static final String SCORE =
+            "ROUND(100 * m.overlap / (s.skill_count + j.skill_count - m.overlap))";
+
+    // Seeker columns, job columns, then skill counts, overlap and score
+    private static final int JOB_COLUMN = 1 + RowMappers.SEEKER_ROW.size();
+    private static final int COUNT_COLUMN = JOB_COLUMN + RowMappers.JOB_ROW.size();
+    private static final String SELECT = "SELECT " + RowMappers.SEEKER_ROW.columns("s") + ", "
+            + RowMappers.JOB_ROW.columns("j") + ", s.skill_count, j.skill_count, "
+            + "m.overlap, " + SCORE + " AS score "
+            + "FROM (SELECT ss.seeker_id, js.job_id, COUNT(*) AS overlap FROM seeker_skills ss "
+            + "JOIN job_skills js ON js.skill_id = ss.skill_id %s GROUP BY ss.seeker_id, js.job_id) m "
+            + "JOIN seekers s ON s.id = m.seeker_id "
+            + "JOIN jobs j ON j.id = m.job_id "
+            + "WHERE " + SCORE + " >= ? "
+            + "ORDER BY score DESC, s.id, j.id LIMIT ?";
+
+    private SqlMatcher() {
+    }
+
+    /**
+     * Match a seeker with the jobs sharing at least one skill.
+     *
+     * @param seekerId Id of the seeker
+     * @param k Maximum number of results
+     * @param minScore Minimum score to include
+     * @return Up to k best matches, ranked
+     * @throws SQLException If there's a database error
+     */
+    public static List<Matcher.MatchResult> matchSeekerWithJobs(int seekerId, int k, int minScore)
+            throws SQLException {
+        return query(String.format(SELECT, "WHERE ss.seeker_id = ?"), seekerId, k, minScore);
+    }
+
+    /**
+     * Match a job with the seekers sharing at least one skill.
+     *
+     * @param jobId Id of the job
+     * @param k Maximum number of results
+     * @param minScore Minimum score to include
+     * @return Up to k best matches, ranked
+     * @throws SQLException If there's a database error
+     */
+    public static List<Matcher.MatchResult> matchJobWithSeekers(int jobId, int k, int minScore)
+            throws SQLException {
+        return query(String.format(SELECT, "WHERE js.job_id = ?"), jobId, k, minScore);
+    }
+
+    /**
+     * Match all seekers with all jobs sharing at least one skill.
+     *
+     * @param k Maximum number of results
+     * @param minScore Minimum score to include
+     * @return Up to k best matches over all pairs, ranked
+     * @throws SQLException If there's a database error
+     */
+    public static List<Matcher.MatchResult> matchAll(int k, int minScore) throws SQLException {
+        return query(String.format(SELECT, ""), null, k, minScore);
+    }
+
+    private static List<Matcher.MatchResult> query(String sql, Integer id, int k, int minScore)
+            throws SQLException {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+
+        List<Matcher.MatchResult> results = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            if (id != null) {
+                pstmt.setInt(index++, id);
+            }
+            pstmt.setInt(index++, minScore);
+            pstmt.setInt(index, k);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapResult(rs));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static Matcher.MatchResult mapResult(ResultSet rs) throws SQLException {
+        Seeker seeker = RowMappers.SEEKER_ROW.map(rs, 1);
+        Job job = RowMappers.JOB_ROW.map(rs, JOB_COLUMN);
+        int seekerSkills = rs.getInt(COUNT_COLUMN);
+        int jobSkills = rs.getInt(COUNT_COLUMN + 1);
+        return new Matcher.MatchResult(seeker, job, rs.getInt(COUNT_COLUMN + 2), jobSkills, seekerSkills,
+                rs.getInt(COUNT_COLUMN + 3));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.workfusion;
 
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -7,12 +8,8 @@ import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.stage.Stage;
 
-import java.sql.SQLException;
-import java.util.List;
 import java.util.Optional;
 
-import com.example.workfusion.dao.UserDao;
-
 /**
  * Controller for the users management view (admin-only).
  * Handles UI interactions and CRUD operations for users.
@@ -21,7 +18,6 @@ public class UsersController {
 
     private AppController appController;
     private final ObservableList<User> userList = FXCollections.observableArrayList();
-    private final UserDao userDao = new UserDao();
 
     @FXML
     private TableView<User> usersTable;
@@ -121,24 +117,16 @@ public class UsersController {
      * Load users from the database into the table.
      */
     public void loadUsers() {
-        javafx.concurrent.Task<List<User>> task = new javafx.concurrent.Task<List<User>>() {
-            @Override
-            protected List<User> call() throws Exception {
-                return userDao.readAll();
+        AsyncData.readAllUsers().whenCompleteAsync((users, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncData.cause(error);
+                cause.printStackTrace();
+                showError("Failed to load users", "Failed to load users: " + cause.getMessage());
+                return;
             }
-        };
-        
-        task.setOnSucceeded(e -> {
-            userList.setAll(task.getValue());
+            userList.setAll(users);
             System.out.println("DEBUG: Loaded " + userList.size() + " users from DB");
-        });
-        
-        task.setOnFailed(e -> {
-            task.getException().printStackTrace();
-            showError("Failed to load users", "Failed to load users: " + task.getException().getMessage());
-        });
-        
-        new Thread(task, "users-reader").start();
+        }, Platform::runLater);
     }
 
     /**
@@ -163,28 +151,19 @@ public class UsersController {
             }
         }
         
-        javafx.concurrent.Task<User> task = new javafx.concurrent.Task<User>() {
-            @Override
-            protected User call() throws Exception {
-                String passwordHash = Database.hashPassword(password);
-                User user = new User(username, passwordHash, role);
-                return userDao.create(user);
+        User user = new User(username, Database.hashPassword(password), role);
+        AsyncData.createUser(user).whenCompleteAsync((created, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncData.cause(error);
+                cause.printStackTrace();
+                showError("Failed to add user", "Failed to add user: " + cause.getMessage());
+                return;
             }
-        };
-        
-        task.setOnSucceeded(e -> {
-            userList.add(task.getValue());
+            userList.add(created);
             clearForm();
             showInfo("Success", "User added successfully.");
             System.out.println("DEBUG: User added successfully");
-        });
-        
-        task.setOnFailed(e -> {
-            task.getException().printStackTrace();
-            showError("Failed to add user", "Failed to add user: " + task.getException().getMessage());
-        });
-        
-        new Thread(task, "user-creator").start();
+        }, Platform::runLater);
     }
 
     /**
@@ -216,26 +195,18 @@ public class UsersController {
         
         User userToUpdate = new User(selectedUser.getId(), username, selectedUser.getPasswordHash(), role, selectedUser.getCreatedAt());
         
-        javafx.concurrent.Task<Boolean> task = new javafx.concurrent.Task<Boolean>() {
-            @Override
-            protected Boolean call() throws Exception {
-                return userDao.update(userToUpdate);
+        int selectedIndex = usersTable.getSelectionModel().getSelectedIndex();
+        AsyncData.updateUser(userToUpdate).whenCompleteAsync((updated, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncData.cause(error);
+                cause.printStackTrace();
+                showError("Failed to update user", "Failed to update user: " + cause.getMessage());
+                return;
             }
-        };
-        
-        task.setOnSucceeded(e -> {
-            int selectedIndex = usersTable.getSelectionModel().getSelectedIndex();
             userList.set(selectedIndex, userToUpdate);
             showInfo("Success", "User updated successfully.");
             System.out.println("DEBUG: User updated successfully");
-        });
-        
-        task.setOnFailed(e -> {
-            task.getException().printStackTrace();
-            showError("Failed to update user", "Failed to update user: " + task.getException().getMessage());
-        });
-        
-        new Thread(task, "user-updater").start();
+        }, Platform::runLater);
     }
 
     /**
@@ -262,26 +233,18 @@ public class UsersController {
         
         Optional<ButtonType> result = confirmation.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
-            javafx.concurrent.Task<Boolean> task = new javafx.concurrent.Task<Boolean>() {
-                @Override
-                protected Boolean call() throws Exception {
-                    return userDao.delete(selectedUser.getId());
+            AsyncData.deleteUser(selectedUser.getId()).whenCompleteAsync((deleted, error) -> {
+                if (error != null) {
+                    Throwable cause = AsyncData.cause(error);
+                    cause.printStackTrace();
+                    showError("Failed to delete user", "Failed to delete user: " + cause.getMessage());
+                    return;
                 }
-            };
-            
-            task.setOnSucceeded(e -> {
                 userList.remove(selectedUser);
                 clearForm();
                 showInfo("Success", "User deleted successfully.");
                 System.out.println("DEBUG: User deleted successfully");
-            });
-            
-            task.setOnFailed(e -> {
-                task.getException().printStackTrace();
-                showError("Failed to delete user", "Failed to delete user: " + task.getException().getMessage());
-            });
-            
-            new Thread(task, "user-deleter").start();
+            }, Platform::runLater);
         }
     }
 
@@ -301,26 +264,17 @@ public class UsersController {
             return;
         }
         
-        javafx.concurrent.Task<Boolean> task = new javafx.concurrent.Task<Boolean>() {
-            @Override
-            protected Boolean call() throws Exception {
-                String passwordHash = Database.hashPassword(newPassword);
-                selectedUser.setPasswordHash(passwordHash);
-                return userDao.update(selectedUser);
+        selectedUser.setPasswordHash(Database.hashPassword(newPassword));
+        AsyncData.updateUser(selectedUser).whenCompleteAsync((updated, error) -> {
+            if (error != null) {
+                Throwable cause = AsyncData.cause(error);
+                cause.printStackTrace();
+                showError("Failed to reset password", "Failed to reset password: " + cause.getMessage());
+                return;
             }
-        };
-        
-        task.setOnSucceeded(e -> {
             showInfo("Success", "Password reset successfully.");
             System.out.println("DEBUG: Password reset successfully");
-        });
-        
-        task.setOnFailed(e -> {
-            task.getException().printStackTrace();
-            showError("Failed to reset password", "Failed to reset password: " + task.getException().getMessage());
-        });
-        
-        new Thread(task, "password-resetter").start();
+        }, Platform::runLater);
     }
 
     /**
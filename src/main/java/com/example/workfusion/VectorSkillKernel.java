@@ -0,0 +1,60 @@
+package com.example.workfusion;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD intersection counting on the incubating Vector API.
+ * Only loaded by {@link SkillBlock} when the {@code jdk.incubator.vector} module is present.
+ */
+final class VectorSkillKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorSkillKernel() {}
+
+    /**
+     * Get the number of 64-bit lanes in the preferred vector shape of this machine.
+     *
+     * @return Vectors of a block handled per pass
+     */
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Count shared skills between one query and a word-major block, one vector of jobs per pass.
+     *
+     * @param query Skill vector of the query
+     * @param queryWords Number of query words to use
+     * @param block Word-major packed block
+     * @param stride Distance between consecutive words of one vector; a multiple of the lane count
+     * @param size Number of packed vectors
+     * @param counts Receives one count per packed vector
+     */
+    static void intersectionCounts(long[] query, int queryWords, long[] block, int stride, int size, int[] counts) {
+        int lanes = SPECIES.length();
+        if (stride % lanes != 0 || stride < size) {
+            throw new IllegalArgumentException("Stride " + stride + " is not a multiple of " + lanes
+                    + " lanes covering " + size + " vectors");
+        }
+        long[] lane = new long[lanes];
+
+        for (int j = 0; j < size; j += lanes) {
+            LongVector acc = LongVector.zero(SPECIES);
+            for (int w = 0; w < queryWords; w++) {
+                long word = query[w];
+                if (word != 0) {
+                    LongVector jobs = LongVector.fromArray(SPECIES, block, w * stride + j);
+                    acc = acc.add(jobs.and(word).lanewise(VectorOperators.BIT_COUNT));
+                }
+            }
+            acc.intoArray(lane, 0);
+            int end = Math.min(lanes, size - j);
+            for (int l = 0; l < end; l++) {
+                counts[j + l] = (int) lane[l];
+            }
+        }
+    }
+}
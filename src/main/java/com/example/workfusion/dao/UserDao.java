@@ -1,6 +1,8 @@
 package com.example.workfusion.dao;
 
 import com.example.workfusion.Database;
+import com.example.workfusion.EntityCache;
+import com.example.workfusion.RowMappers;
 import com.example.workfusion.User;
 
 import java.sql.*;
@@ -28,6 +30,8 @@ public class UserDao {
             try (ResultSet rs = ps.getGeneratedKeys()) {
                 if (rs.next()) u.setId(rs.getInt(1));
             }
+        } finally {
+            Database.getUserCache().invalidateAll();
         }
         return u;
     }
@@ -40,25 +44,23 @@ public class UserDao {
      * @throws SQLException if there's a database error
      */
     public Optional<User> read(int id) throws SQLException {
-        String sql = "SELECT id, username, password_hash, role, created_at FROM users WHERE id = ?";
+        return Optional.ofNullable(Database.getUserCache().get("id:" + id, () -> load(id)));
+    }
+
+    private User load(int id) throws SQLException {
+        String sql = RowMappers.USER_ROW.selectFrom() + " WHERE id = ?";
         try (Connection c = Database.getConnection();
              PreparedStatement pstmt = c.prepareStatement(sql)) {
             pstmt.setInt(1, id);
             
             try (ResultSet rs = pstmt.executeQuery()) {
                 if (rs.next()) {
-                    User user = new User();
-                    user.setId(rs.getInt("id"));
-                    user.setUsername(rs.getString("username"));
-                    user.setPasswordHash(rs.getString("password_hash"));
-                    user.setRole(rs.getString("role"));
-                    user.setCreatedAt(rs.getTimestamp("created_at"));
-                    return Optional.of(user);
+                    return RowMappers.USER_ROW.map(rs);
                 }
             }
         }
         
-        return Optional.empty();
+        return null;
     }
 
     /**
@@ -68,21 +70,19 @@ public class UserDao {
      * @throws SQLException if there's a database error
      */
     public List<User> readAll() throws SQLException {
+        return new ArrayList<>(Database.getUserCache().get("all", this::loadAll));
+    }
+
+    private List<User> loadAll() throws SQLException {
         List<User> users = new ArrayList<>();
-        String sql = "SELECT id, username, password_hash, role, created_at FROM users ORDER BY username";
+        String sql = RowMappers.USER_ROW.selectFrom() + " ORDER BY username";
         
         try (Connection conn = Database.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
             while (rs.next()) {
-                User user = new User();
-                user.setId(rs.getInt("id"));
-                user.setUsername(rs.getString("username"));
-                user.setPasswordHash(rs.getString("password_hash"));
-                user.setRole(rs.getString("role"));
-                user.setCreatedAt(rs.getTimestamp("created_at"));
-                users.add(user);
+                users.add(RowMappers.USER_ROW.map(rs));
             }
             
             System.out.println("DEBUG: Loaded " + users.size() + " users from DB");
@@ -91,6 +91,21 @@ public class UserDao {
         return users;
     }
 
+    /**
+     * Read one page of users ordered by username, then id
+     * 
+     * @param afterUsername Username of the last user of the previous page, or null for the first page
+     * @param afterId ID of the last user of the previous page
+     * @param pageSize Maximum number of users to return
+     * @return Users of the page; fewer than pageSize on the last page
+     * @throws SQLException if there's a database error
+     */
+    public List<User> readPage(String afterUsername, int afterId, int pageSize) throws SQLException {
+        return new ArrayList<>(Database.getUserCache().get(EntityCache.pageKey(afterUsername, afterId, pageSize),
+                () -> Database.fetchPage(RowMappers.USER_ROW.selectFrom(), "username", afterUsername, afterId,
+                        pageSize, RowMappers.USER_ROW)));
+    }
+
     /**
      * Update an existing user
      * 
@@ -108,6 +123,8 @@ public class UserDao {
             pstmt.setString(3, u.getRole());
             pstmt.setInt(4, u.getId());
             return pstmt.executeUpdate() > 0;
+        } finally {
+            Database.getUserCache().invalidateAll();
         }
     }
 
@@ -125,6 +142,8 @@ public class UserDao {
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, id);
             return pstmt.executeUpdate() > 0;
+        } finally {
+            Database.getUserCache().invalidateAll();
         }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ module com.example.workfusion {
     requires javafx.controls;
     requires javafx.fxml;
     requires java.sql;
+    requires static jdk.incubator.vector;
 
     opens com.example.workfusion to javafx.fxml;
     exports com.example.workfusion;
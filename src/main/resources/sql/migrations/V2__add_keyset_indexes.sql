@@ -0,0 +1,5 @@
+-- Indexes for keyset pagination; users are served by the unique username index
+
+CREATE INDEX idx_jobs_title_id ON jobs (title, id);
+CREATE INDEX idx_seekers_name_id ON seekers (name, id);
+CREATE INDEX idx_items_name_id ON items (name, id);
@@ -0,0 +1,37 @@
+-- Sample data for an empty database; tables that already hold rows are left alone
+
+-- Admin user (username: admin, password: admin123)
+INSERT INTO users (username, password_hash, role)
+SELECT 'admin', '240be518fabd2724ddb6f04eeb1da5967448d7e831c08c8fa822809f74c720a9', 'admin'
+FROM DUAL
+WHERE NOT EXISTS (SELECT 1 FROM users);
+
+INSERT INTO jobs (title, description, skills, created_by)
+SELECT sample.title, sample.description, sample.skills, admin.id
+FROM (
+    SELECT 'Java Developer' AS title, 'Develop Java applications' AS description,
+           'Java, Spring, Hibernate, MySQL' AS skills
+    UNION ALL SELECT 'Frontend Developer', 'Build user interfaces', 'JavaScript, HTML, CSS, React'
+    UNION ALL SELECT 'DevOps Engineer', 'Manage infrastructure', 'Docker, Kubernetes, AWS, Jenkins'
+) sample
+JOIN users admin ON admin.username = 'admin'
+WHERE NOT EXISTS (SELECT 1 FROM jobs);
+
+INSERT INTO seekers (name, email, skills, created_by)
+SELECT sample.name, sample.email, sample.skills, admin.id
+FROM (
+    SELECT 'Alice Johnson' AS name, 'alice@example.com' AS email, 'Java, Spring, MySQL, REST APIs' AS skills
+    UNION ALL SELECT 'Bob Smith', 'bob@example.com', 'JavaScript, React, CSS, Node.js'
+    UNION ALL SELECT 'Carol Davis', 'carol@example.com', 'Docker, AWS, Python, Terraform'
+) sample
+JOIN users admin ON admin.username = 'admin'
+WHERE NOT EXISTS (SELECT 1 FROM seekers);
+
+INSERT INTO items (name, description, quantity)
+SELECT sample.name, sample.description, sample.quantity
+FROM (
+    SELECT 'Seed 1' AS name, 'First seed item for testing' AS description, 1 AS quantity
+    UNION ALL SELECT 'Seed 2', 'Second seed item for testing', 2
+    UNION ALL SELECT 'Seed 3', 'Third seed item for testing', 3
+) sample
+WHERE NOT EXISTS (SELECT 1 FROM items);
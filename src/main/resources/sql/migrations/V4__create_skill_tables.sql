@@ -0,0 +1,29 @@
+-- Normalized skills, kept in sync with jobs.skills and seekers.skills by Database.
+-- Names are stored trimmed and lower-cased; the binary collation keeps the
+-- unique key from folding accents, so every distinct parsed name gets a row.
+
+CREATE TABLE IF NOT EXISTS skills (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    UNIQUE KEY uq_skills_name (name)
+);
+
+-- The primary keys serve lookups by owner, the second index lookups by skill
+
+CREATE TABLE IF NOT EXISTS job_skills (
+    job_id INT NOT NULL,
+    skill_id INT NOT NULL,
+    PRIMARY KEY (job_id, skill_id),
+    KEY idx_job_skills_skill (skill_id, job_id),
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id)
+);
+
+CREATE TABLE IF NOT EXISTS seeker_skills (
+    seeker_id INT NOT NULL,
+    skill_id INT NOT NULL,
+    PRIMARY KEY (seeker_id, skill_id),
+    KEY idx_seeker_skills_skill (skill_id, seeker_id),
+    FOREIGN KEY (seeker_id) REFERENCES seekers(id) ON DELETE CASCADE,
+    FOREIGN KEY (skill_id) REFERENCES skills(id)
+);
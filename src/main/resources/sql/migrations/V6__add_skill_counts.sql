@@ -0,0 +1,8 @@
+-- Skill set sizes, so SQL matching can compute Jaccard scores from overlap counts
+-- alone. Database keeps them in step with the link tables on every write.
+
+ALTER TABLE jobs ADD COLUMN skill_count INT NOT NULL DEFAULT 0;
+ALTER TABLE seekers ADD COLUMN skill_count INT NOT NULL DEFAULT 0;
+
+UPDATE jobs j SET skill_count = (SELECT COUNT(*) FROM job_skills js WHERE js.job_id = j.id);
+UPDATE seekers s SET skill_count = (SELECT COUNT(*) FROM seeker_skills ss WHERE ss.seeker_id = s.id);
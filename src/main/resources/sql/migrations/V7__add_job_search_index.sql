@@ -0,0 +1,3 @@
+-- Keyword search over jobs; Database.searchJobs matches against all three columns
+
+CREATE FULLTEXT INDEX ft_jobs_search ON jobs (title, description, skills);
@@ -0,0 +1,58 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Facade tests with calls that do not touch MySQL.
+ */
+public class AsyncDataTest {
+
+    @Test
+    void testRunsOnVirtualThreads() {
+        assertTrue(AsyncData.supply(() -> Thread.currentThread().isVirtual()).join());
+    }
+
+    @Test
+    void testLimitsConcurrentCallsToPoolSize() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            calls.add(AsyncData.run(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }));
+        }
+        CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])).join();
+
+        assertTrue(maxRunning.get() <= Database.getMaxConnections(),
+                "At most one call per pooled connection should run at once: " + maxRunning.get());
+        assertEquals(0, AsyncData.getRunningCalls());
+        assertEquals(0, AsyncData.getWaitingCalls());
+    }
+
+    @Test
+    void testFailureCarriesSqlException() {
+        SQLException failure = new SQLException("boom");
+        CompletableFuture<Object> call = AsyncData.supply(() -> {
+            throw failure;
+        });
+        CompletionException error = assertThrows(CompletionException.class, call::join);
+        assertSame(failure, AsyncData.cause(error));
+        assertEquals(0, AsyncData.getRunningCalls());
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pool tests against an in-memory driver, so they run without MySQL.
+ */
+public class ConnectionPoolTest {
+
+    private static final String URL = "jdbc:pooltest:db";
+
+    private FakeDriver driver;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        driver = new FakeDriver();
+        DriverManager.registerDriver(driver);
+        pool = new ConnectionPool(URL, "user", "secret", 0, 2);
+        pool.setBorrowTimeoutMillis(50);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        pool.close();
+        DriverManager.deregisterDriver(driver);
+    }
+
+    @Test
+    void testReusesReturnedConnection() throws SQLException {
+        try (Connection c = pool.getConnection()) {
+            assertEquals(1, pool.getActiveConnections());
+        }
+        try (Connection c = pool.getConnection()) {
+            assertFalse(c.isClosed());
+        }
+        assertEquals(1, pool.getCreatedCount());
+        assertEquals(2, pool.getBorrowCount());
+        assertEquals(1, pool.getIdleConnections());
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    @Test
+    void testTimesOutWhenExhausted() throws SQLException {
+        Connection first = pool.getConnection();
+        Connection second = pool.getConnection();
+        assertThrows(SQLException.class, () -> pool.getConnection());
+        assertEquals(1, pool.getTimeoutCount());
+
+        second.close();
+        try (Connection third = pool.getConnection()) {
+            assertEquals(2, pool.getActiveConnections());
+        }
+        first.close();
+        assertEquals(2, pool.getCreatedCount());
+    }
+
+    @Test
+    void testClosedHandleIsUnusable() throws SQLException {
+        Connection c = pool.getConnection();
+        c.close();
+        c.close();
+        assertTrue(c.isClosed());
+        assertThrows(SQLException.class, () -> c.createStatement());
+        assertEquals(1, pool.getIdleConnections());
+    }
+
+    @Test
+    void testReplacesInvalidConnection() throws SQLException {
+        try (Connection c = pool.getConnection()) {
+            // Returned to the pool, then broken while idle
+        }
+        driver.connections.get(0).valid = false;
+        try (Connection c = pool.getConnection()) {
+            assertFalse(c.isClosed());
+        }
+        assertEquals(1, pool.getValidationFailures());
+        assertEquals(2, pool.getCreatedCount());
+        assertTrue(driver.connections.get(0).closed);
+    }
+
+    @Test
+    void testRollsBackOpenTransactionOnReturn() throws SQLException {
+        try (Connection c = pool.getConnection()) {
+            c.setAutoCommit(false);
+        }
+        FakeConnection physical = driver.connections.get(0);
+        assertEquals(1, physical.rollbacks);
+        assertTrue(physical.autoCommit);
+    }
+
+    @Test
+    void testCachesPreparedStatements() throws SQLException {
+        pool.setStatementCacheSize(2);
+        try (Connection c = pool.getConnection()) {
+            PreparedStatement first;
+            try (PreparedStatement ps = c.prepareStatement("SELECT 1")) {
+                first = ps;
+                ps.setInt(1, 5);
+            }
+            assertTrue(first.isClosed());
+            assertThrows(SQLException.class, () -> first.setInt(1, 6));
+
+            try (PreparedStatement ps = c.prepareStatement("SELECT 1");
+                 PreparedStatement nested = c.prepareStatement("SELECT 1")) {
+                assertSame(c, ps.getConnection());
+                assertNotSame(ps, nested);
+            }
+            assertEquals(1, pool.getStatementCacheHits());
+            assertEquals(2, pool.getStatementCacheMisses());
+        }
+
+        try (Connection c = pool.getConnection()) {
+            c.prepareStatement("SELECT 1").close();
+            c.prepareStatement("SELECT 2").close();
+            c.prepareStatement("SELECT 3").close();
+            c.prepareStatement("SELECT 1").close();
+        }
+        FakeConnection physical = driver.connections.get(0);
+        // One statement per SQL string, plus the uncached nested one and SELECT 1 again after its eviction
+        assertEquals(5, physical.prepared);
+        assertEquals(2, pool.getStatementCacheEvictions());
+        // Every close of a cached statement clears it instead of closing it
+        assertEquals(6, physical.cleared);
+    }
+
+    @Test
+    void testResetsCachedStatementSettings() throws SQLException {
+        pool.setStatementCacheSize(2);
+        try (Connection c = pool.getConnection()) {
+            try (PreparedStatement ps = c.prepareStatement("SELECT 1")) {
+                ps.setFetchSize(500);
+                ps.setMaxRows(10);
+                ps.setQueryTimeout(30);
+            }
+            try (PreparedStatement ps = c.prepareStatement("SELECT 1")) {
+                assertEquals(0, ps.getFetchSize());
+                assertEquals(0, ps.getMaxRows());
+                assertEquals(0, ps.getQueryTimeout());
+            }
+            assertEquals(1, pool.getStatementCacheHits());
+        }
+    }
+
+    @Test
+    void testClosesUncachedStatementsOnReturn() throws SQLException {
+        pool.setStatementCacheSize(2);
+        Connection c = pool.getConnection();
+        PreparedStatement cached = c.prepareStatement("SELECT 1");
+        PreparedStatement nested = c.prepareStatement("SELECT 1");
+        cached.close();
+        c.close();
+
+        FakeConnection physical = driver.connections.get(0);
+        assertTrue(nested.isClosed());
+        assertEquals(1, physical.statementsClosed);
+    }
+
+    @Test
+    void testLeakReportTracesBorrowOnlyWhenEnabled() throws Exception {
+        pool.setLeakThresholdMillis(1);
+        assertFalse(pool.isLeakTracing());
+        String untraced = leakReport(pool.getConnection());
+        assertTrue(untraced.contains("by thread " + Thread.currentThread().getName()), untraced);
+        assertFalse(untraced.contains("Connection borrowed here"), untraced);
+
+        pool.setLeakTracing(true);
+        String traced = leakReport(pool.getConnection());
+        assertTrue(traced.contains("Connection borrowed here"), traced);
+        assertEquals(2, pool.getLeakCount());
+    }
+
+    // Hold the connection past the leak threshold and return what housekeeping reports
+    private String leakReport(Connection c) throws InterruptedException, SQLException {
+        PrintStream err = System.err;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thread.sleep(5);
+        System.setErr(new PrintStream(out, true));
+        try {
+            pool.housekeep();
+        } finally {
+            System.setErr(err);
+            c.close();
+        }
+        return out.toString();
+    }
+
+    /**
+     * State of one fake physical connection.
+     */
+    static class FakeConnection {
+        boolean closed;
+        boolean valid = true;
+        boolean autoCommit = true;
+        int rollbacks;
+        int prepared;
+        int cleared;
+        int statementsClosed;
+
+        PreparedStatement statement() {
+            prepared++;
+            boolean[] statementClosed = new boolean[1];
+            Map<String, Object> settings = new HashMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                String name = method.getName();
+                switch (name) {
+                    case "close":
+                        if (!statementClosed[0]) {
+                            statementClosed[0] = true;
+                            statementsClosed++;
+                        }
+                        return null;
+                    case "isClosed": return statementClosed[0];
+                    case "clearParameters": cleared++; return null;
+                    default: break;
+                }
+                // Settings such as the fetch size read back what was last set, 0 by default
+                if (name.startsWith("set") && args.length == 1 && args[0] instanceof Integer) {
+                    settings.put(name.substring(3), args[0]);
+                    return null;
+                }
+                if (name.startsWith("get") && method.getReturnType() == int.class) {
+                    return settings.getOrDefault(name.substring(3), 0);
+                }
+                return null;
+            });
+        }
+
+        Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close": closed = true; return null;
+                    case "isClosed": return closed;
+                    case "isValid": return valid && !closed;
+                    case "getAutoCommit": return autoCommit;
+                    case "setAutoCommit": autoCommit = (Boolean) args[0]; return null;
+                    case "rollback": rollbacks++; return null;
+                    case "clearWarnings": return null;
+                    case "prepareStatement": return statement();
+                    default: throw new SQLException("Not supported by fake connection: " + method.getName());
+                }
+            });
+        }
+    }
+
+    static class FakeDriver implements Driver {
+        final List<FakeConnection> connections = new ArrayList<>();
+
+        @Override
+        public synchronized Connection connect(String url, Properties info) {
+            if (!acceptsURL(url)) {
+                return null;
+            }
+            FakeConnection connection = new FakeConnection();
+            connections.add(connection);
+            return connection.proxy();
+        }
+
+        @Override
+        public boolean acceptsURL(String url) {
+            return URL.equals(url);
+        }
+
+        @Override
+        public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+            return new DriverPropertyInfo[0];
+        }
+
+        @Override
+        public int getMajorVersion() { return 1; }
+
+        @Override
+        public int getMinorVersion() { return 0; }
+
+        @Override
+        public boolean jdbcCompliant() { return false; }
+
+        @Override
+        public Logger getParentLogger() { return Logger.getGlobal(); }
+    }
+}
@@ -5,7 +5,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -134,4 +143,230 @@ public class DatabaseTest {
         assertNull(deletedSeeker, "Should not find the deleted seeker");
         testSeeker = null; // Mark as deleted
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBatchInsertJobsAndSeekers() throws SQLException {
+        List<Job> jobs = Arrays.asList(
+                new Job("Batch Job 1", "First batch job", "Java", 1),
+                new Job("Batch Job 2", "Second batch job", "SQL", 1));
+        List<Seeker> seekers = Arrays.asList(
+                new Seeker("Batch Seeker 1", "batch1@example.com", "Java", 1),
+                new Seeker("Batch Seeker 2", "batch2@example.com", "SQL", 1));
+        try {
+            int[] jobIds = Database.insertJobs(jobs);
+            int[] seekerIds = Database.insertSeekers(seekers);
+            assertEquals(2, jobIds.length);
+            assertNotEquals(0, jobs.get(0).getId(), "Job ID should be set after insertion");
+            assertEquals(jobIds[1], jobs.get(1).getId());
+            assertNotEquals(0, seekers.get(1).getId(), "Seeker ID should be set after insertion");
+            assertEquals(seekerIds[0], seekers.get(0).getId());
+
+            jobs.get(1).setSkills("SQL, MySQL");
+            Database.updateJobs(jobs);
+            Job updatedJob = Database.getAllJobs().stream()
+                    .filter(j -> j.getId() == jobs.get(1).getId())
+                    .findFirst()
+                    .orElse(null);
+            assertNotNull(updatedJob, "Should find the updated job");
+            assertEquals("SQL, MySQL", updatedJob.getSkills());
+        } finally {
+            for (Job job : jobs) {
+                if (job.getId() != 0) {
+                    Database.deleteJob(job.getId());
+                }
+            }
+            for (Seeker seeker : seekers) {
+                if (seeker.getId() != 0) {
+                    Database.deleteSeeker(seeker.getId());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testStreamJobsAndSeekers() throws SQLException {
+        testJob = new Job("Streamed Job", "Streamed Description", "Java", 1);
+        Database.insertJob(testJob);
+        testSeeker = new Seeker("Streamed Seeker", "streamed@example.com", "Java", 1);
+        Database.insertSeeker(testSeeker);
+
+        List<Integer> jobIds;
+        try (Stream<Job> jobs = Database.streamJobs()) {
+            jobIds = jobs.map(Job::getId).collect(Collectors.toList());
+        }
+        assertTrue(jobIds.contains(testJob.getId()), "Stream should contain the inserted job");
+        assertEquals(Database.getAllJobs().size(), jobIds.size());
+
+        List<Seeker> seekers = new ArrayList<>();
+        long count = Database.forEachSeeker(seekers::add);
+        assertEquals(count, seekers.size());
+        assertTrue(seekers.stream().anyMatch(s -> s.getId() == testSeeker.getId()),
+                "Callback should receive the inserted seeker");
+        for (int i = 1; i < seekers.size(); i++) {
+            assertTrue(seekers.get(i - 1).getId() < seekers.get(i).getId(), "Seekers should arrive in id order");
+        }
+    }
+
+    @Test
+    void testJobsAndSeekersPages() throws SQLException {
+        List<Job> jobs = Arrays.asList(
+                new Job("Paged Job", "Same title", "Java", 1),
+                new Job("Paged Job", "Same title", "SQL", 1),
+                new Job("Paged Job", "Same title", "CSS", 1));
+        Database.insertJobs(jobs);
+        try {
+            // Walk all pages; rows must arrive in (title, id) order without gaps or repeats
+            List<Job> walked = new ArrayList<>();
+            List<Job> page = Database.getJobsPage(null, 0, 2);
+            while (!page.isEmpty()) {
+                assertTrue(page.size() <= 2, "Page should not exceed the page size");
+                walked.addAll(page);
+                Job last = page.get(page.size() - 1);
+                page = Database.getJobsPage(last.getTitle(), last.getId(), 2);
+            }
+            assertEquals(Database.getAllJobs().size(), walked.size());
+            for (int i = 1; i < walked.size(); i++) {
+                Job previous = walked.get(i - 1);
+                Job current = walked.get(i);
+                int byTitle = previous.getTitle().compareToIgnoreCase(current.getTitle());
+                assertTrue(byTitle < 0 || (byTitle == 0 && previous.getId() < current.getId()),
+                        "Jobs should be ordered by title, then id");
+            }
+
+            // A page starting inside a run of equal titles continues by id
+            List<Job> rest = Database.getJobsPage("Paged Job", jobs.get(0).getId(), 2);
+            assertEquals(jobs.get(1).getId(), rest.get(0).getId());
+            assertEquals(jobs.get(2).getId(), rest.get(1).getId());
+        } finally {
+            for (Job job : jobs) {
+                Database.deleteJob(job.getId());
+            }
+        }
+
+        testSeeker = new Seeker("Paged Seeker", "paged@example.com", "Java", 1);
+        Database.insertSeeker(testSeeker);
+        List<Seeker> first = Database.getSeekersPage(null, 0, 1);
+        assertEquals(1, first.size());
+        List<Seeker> next = Database.getSeekersPage("Paged Seeker", testSeeker.getId() - 1, 1);
+        assertEquals(testSeeker.getId(), next.get(0).getId());
+    }
+
+    @Test
+    void testSkillTablesFindSharedSkills() throws SQLException {
+        testJob = new Job("Skill Job", "Shared skills", "Kotlin, Gradle", 1);
+        Database.insertJob(testJob);
+        testSeeker = new Seeker("Skill Seeker", "skills@example.com", " kotlin ,Swift", 1);
+        Database.insertSeeker(testSeeker);
+
+        assertTrue(Database.getSeekersSharingSkill(testJob.getId()).stream()
+                .anyMatch(s -> s.getId() == testSeeker.getId()), "Seeker shares Kotlin with the job");
+        assertTrue(Database.getJobsSharingSkill(testSeeker.getId()).stream()
+                .anyMatch(j -> j.getId() == testJob.getId()), "Job shares Kotlin with the seeker");
+
+        // Updating the skills string replaces the links
+        testSeeker.setSkills("Swift");
+        Database.updateSeeker(testSeeker);
+        assertTrue(Database.getSeekersSharingSkill(testJob.getId()).stream()
+                .noneMatch(s -> s.getId() == testSeeker.getId()), "Seeker no longer shares a skill");
+    }
+
+    @Test
+    void testConcurrentInsertsAddSameNewSkill() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Job> jobs = new ArrayList<>();
+        try {
+            // Each round races two writers adding the same skill name the database has not seen
+            for (int round = 0; round < 10; round++) {
+                String skill = "race-skill-" + System.nanoTime();
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<Job>> inserts = new ArrayList<>();
+                for (int writer = 0; writer < 2; writer++) {
+                    Job job = new Job("Race Job " + writer, "Concurrent skill insert", skill + ", Java", 1);
+                    inserts.add(executor.submit(() -> {
+                        start.await();
+                        Database.insertJob(job);
+                        return job;
+                    }));
+                }
+                for (Future<Job> insert : inserts) {
+                    jobs.add(insert.get(30, TimeUnit.SECONDS));
+                }
+
+                testSeeker = new Seeker("Race Seeker", "race@example.com", skill, 1);
+                Database.insertSeeker(testSeeker);
+                List<Integer> sharing = Database.getJobsSharingSkill(testSeeker.getId()).stream()
+                        .map(Job::getId)
+                        .collect(Collectors.toList());
+                for (Job job : jobs.subList(jobs.size() - 2, jobs.size())) {
+                    assertTrue(sharing.contains(job.getId()), "Both jobs should link the new skill");
+                }
+                Database.deleteSeeker(testSeeker.getId());
+                testSeeker = null;
+            }
+        } finally {
+            executor.shutdownNow();
+            for (Job job : jobs) {
+                Database.deleteJob(job.getId());
+            }
+        }
+    }
+
+    @Test
+    void testSqlMatcherAgreesWithMatcher() throws SQLException {
+        testJob = new Job("Sql Match Job", "Scored in MySQL", "Zig, Nim, Crystal", 1);
+        Database.insertJob(testJob);
+        testSeeker = new Seeker("Sql Match Seeker", "sqlmatch@example.com", "zig, NIM, Elixir, Gleam", 1);
+        Database.insertSeeker(testSeeker);
+
+        Matcher.MatchResult expected = Matcher.matchJobWithSeekers(testJob, List.of(testSeeker)).get(0);
+        Matcher.MatchResult actual = SqlMatcher.matchJobWithSeekers(testJob.getId(), 1000, 1).stream()
+                .filter(r -> r.getSeeker().getId() == testSeeker.getId())
+                .findFirst()
+                .orElseThrow();
+        assertEquals(expected.getOverlapCount(), actual.getOverlapCount());
+        assertEquals(expected.getTotalJobSkills(), actual.getTotalJobSkills());
+        assertEquals(expected.getTotalSeekerSkills(), actual.getTotalSeekerSkills());
+        assertEquals(expected.getScore(), actual.getScore());
+
+        List<Matcher.MatchResult> forSeeker = SqlMatcher.matchSeekerWithJobs(testSeeker.getId(), 1000, 1);
+        assertTrue(forSeeker.stream().anyMatch(r -> r.getJob().getId() == testJob.getId()));
+        for (int i = 1; i < forSeeker.size(); i++) {
+            assertTrue(Matcher.RANKING.compare(forSeeker.get(i - 1), forSeeker.get(i)) < 0,
+                    "Results should be ranked like the in-JVM matcher");
+        }
+        assertEquals(1, SqlMatcher.matchAll(1, 0).size());
+    }
+
+    @Test
+    void testSearchQueryDropsOperatorsAndShortWords() {
+        assertEquals("+java* +spring*", Database.toBooleanQuery("  Java, +spring* java "));
+        assertEquals("+développeur*", Database.toBooleanQuery("\"Développeur\" (go)"));
+        assertEquals("", Database.toBooleanQuery("go -c ++"));
+        assertEquals("+node*", Database.toBooleanQuery("Node.js"));
+        assertEquals("", Database.toBooleanQuery("C++ C#"));
+        assertEquals("", Database.toBooleanQuery(null));
+    }
+
+    @Test
+    void testSearchJobsRanksAndPages() throws SQLException {
+        List<Job> jobs = Arrays.asList(
+                new Job("Quokka Wrangler", "Quokka care, quokka feeding and quokka photos", "Quokka", 1),
+                new Job("Zoo Keeper", "Looks after a quokka among other animals", "Animals", 1),
+                new Job("Zoo Cashier", "Sells tickets", "Cash", 1));
+        Database.insertJobs(jobs);
+        try {
+            List<Job> found = Database.searchJobs("quok", 0, 10);
+            assertEquals(2, found.size(), "Prefix should match both quokka jobs only");
+            assertEquals(jobs.get(0).getId(), found.get(0).getId(), "More mentions should rank first");
+
+            assertEquals(1, Database.searchJobs("quokka zoo", 0, 10).size(), "Every keyword is required");
+            assertEquals(1, Database.searchJobs("quokka", 0, 1).size());
+            assertEquals(jobs.get(1).getId(), Database.searchJobs("quokka", 1, 1).get(0).getId());
+            assertTrue(Database.searchJobs("quokka", 2, 1).isEmpty());
+        } finally {
+            for (Job job : jobs) {
+                Database.deleteJob(job.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cache tests with counting loaders, so they run without MySQL.
+ */
+public class EntityCacheTest {
+
+    private int loads;
+
+    private String load(String value) {
+        loads++;
+        return value;
+    }
+
+    @Test
+    void testReadThroughAndHitRatio() throws SQLException {
+        EntityCache cache = new EntityCache("test", 10, 60_000);
+        assertEquals("a", cache.get("k", () -> load("a")));
+        assertEquals("a", cache.get("k", () -> load("b")));
+        assertEquals("a", cache.get("k", () -> load("c")));
+        assertNull(cache.get("missing", () -> null));
+        assertNull(cache.get("missing", () -> load("d")));
+
+        assertEquals(1, loads);
+        assertEquals(3, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0.6, cache.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() throws SQLException {
+        EntityCache cache = new EntityCache("test", 2, 60_000);
+        cache.get("a", () -> load("a"));
+        cache.get("b", () -> load("b"));
+        cache.get("a", () -> load("a"));
+        cache.get("c", () -> load("c"));
+
+        // "b" was used least recently, so it went when "c" came in
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        cache.get("a", () -> load("a"));
+        cache.get("b", () -> load("b"));
+        assertEquals(4, loads);
+    }
+
+    @Test
+    void testExpiresAfterTtl() throws Exception {
+        EntityCache cache = new EntityCache("test", 10, 1);
+        cache.get("k", () -> load("a"));
+        Thread.sleep(5);
+        assertEquals("b", cache.get("k", () -> load("b")));
+        assertEquals(1, cache.getExpirations());
+        assertEquals(2, loads);
+    }
+
+    @Test
+    void testInvalidateDropsEntriesAndRunningLoads() throws SQLException {
+        EntityCache cache = new EntityCache("test", 10, 60_000);
+        cache.get("k", () -> load("a"));
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals("b", cache.get("k", () -> load("b")));
+
+        // A write lands while a load is running: the loaded value is returned but not kept
+        List<String> rows = new ArrayList<>(Arrays.asList("old"));
+        assertEquals(Arrays.asList("old"), cache.get("rows", () -> {
+            List<String> loaded = new ArrayList<>(rows);
+            rows.set(0, "new");
+            cache.invalidateAll();
+            return loaded;
+        }));
+        assertEquals(Arrays.asList("new"), cache.get("rows", () -> new ArrayList<>(rows)));
+        assertEquals(2, cache.getInvalidations());
+    }
+
+    @Test
+    void testPageKeys() {
+        assertEquals(EntityCache.pageKey(null, 5, 20), EntityCache.pageKey(null, 7, 20));
+        assertNotEquals(EntityCache.pageKey("a", 1, 20), EntityCache.pageKey("a", 2, 20));
+        assertNotEquals(EntityCache.pageKey("null", 0, 20), EntityCache.pageKey(null, 0, 20));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Row mapper tests against a fake result set that only answers reads by ordinal.
+ */
+public class EntityMapperTest {
+
+    private final List<Integer> readColumns = new ArrayList<>();
+
+    // Row whose values are read by ordinal; reads by column label fail
+    private ResultSet row(Object... values) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+            if (!(args[0] instanceof Integer)) {
+                throw new SQLException("Read by label: " + args[0]);
+            }
+            int column = (Integer) args[0];
+            readColumns.add(column);
+            Object value = values[column - 1];
+            return method.getName().equals("getInt") ? ((Number) value).intValue() : value;
+        });
+    }
+
+    @Test
+    void testMapsAllColumnsByOrdinal() throws SQLException {
+        Timestamp createdAt = new Timestamp(1_000L);
+        assertEquals("SELECT id, title, description, skills, created_by, created_at FROM jobs",
+                RowMappers.JOB_ROW.selectFrom());
+
+        Job job = RowMappers.JOB_ROW.map(row(7, "Java Developer", "Builds things", "Java, SQL", 1, createdAt));
+        assertEquals(7, job.getId());
+        assertEquals("Java Developer", job.getTitle());
+        assertEquals("Builds things", job.getDescription());
+        assertEquals("Java, SQL", job.getSkills());
+        assertEquals(1, job.getCreatedBy());
+        assertEquals(createdAt, job.getCreatedAt());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), readColumns);
+    }
+
+    @Test
+    void testProjectionReadsOnlySelectedColumns() throws SQLException {
+        EntityMapper.Projection<Seeker> projection = RowMappers.SEEKERS.select("skills", "id");
+        assertEquals("SELECT skills, id FROM seekers", projection.selectFrom());
+        assertEquals("s.skills, s.id", projection.columns("s"));
+        assertEquals(2, projection.size());
+
+        Seeker seeker = projection.map(row("Go", 3));
+        assertEquals(3, seeker.getId());
+        assertEquals("Go", seeker.getSkills());
+        assertNull(seeker.getName());
+        assertNull(seeker.getEmail());
+    }
+
+    @Test
+    void testMapsColumnsStartingAtOffset() throws SQLException {
+        EntityMapper.Projection<Item> projection = RowMappers.ITEMS.select("id", "quantity");
+        Item item = projection.map(row("ignored", "ignored", 4, 12), 3);
+        assertEquals(4, item.getId());
+        assertEquals(12, item.getQuantity());
+        assertEquals(List.of(3, 4), readColumns);
+    }
+
+    @Test
+    void testRejectsUnknownAndDuplicateColumns() {
+        assertThrows(IllegalArgumentException.class, () -> RowMappers.USERS.select("id", "password"));
+        assertThrows(IllegalArgumentException.class, () -> EntityMapper.of("users", User::new)
+                .intColumn("id", User::setId)
+                .intColumn("id", User::setId));
+    }
+}
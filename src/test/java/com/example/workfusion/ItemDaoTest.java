@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 
 public class ItemDaoTest {
@@ -155,4 +156,62 @@ public class ItemDaoTest {
         // Verify item was deleted
         assertNull(readItem, "Deleted item should be null");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test create and update items in a batch")
+    public void testBatchCreateAndUpdate() throws SQLException {
+        List<Item> items = Arrays.asList(
+                new Item("Batch Item 1", "First batch item", 1),
+                new Item("Batch Item 2", "Second batch item", 2),
+                new Item("Batch Item 3", "Third batch item", 3));
+        itemDao.createAll(items);
+        
+        // Verify every item got its own generated ID
+        assertTrue(items.get(0).getId() > 0, "Item ID should be greater than 0");
+        assertTrue(items.get(1).getId() > items.get(0).getId(), "IDs should follow insertion order");
+        assertTrue(items.get(2).getId() > items.get(1).getId(), "IDs should follow insertion order");
+        assertEquals("Batch Item 2", itemDao.read(items.get(1).getId()).getName());
+        
+        // Update all of them
+        for (Item item : items) {
+            item.setQuantity(item.getQuantity() * 10);
+        }
+        assertEquals(3, itemDao.updateAll(items));
+        assertEquals(30, itemDao.read(items.get(2).getId()).getQuantity());
+        
+        // Clean up
+        for (Item item : items) {
+            itemDao.delete(item.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Test read items page by page")
+    public void testReadPage() throws SQLException {
+        List<Item> items = itemDao.createAll(Arrays.asList(
+                new Item("Paged Item", "First paged item", 1),
+                new Item("Paged Item", "Second paged item", 2),
+                new Item("Paged Item", "Third paged item", 3)));
+        
+        // Walk all pages and compare with the full listing
+        int total = 0;
+        List<Item> page = itemDao.readPage(null, 0, 2);
+        while (!page.isEmpty()) {
+            assertTrue(page.size() <= 2, "Page should not exceed the page size");
+            total += page.size();
+            Item last = page.get(page.size() - 1);
+            page = itemDao.readPage(last.getName(), last.getId(), 2);
+        }
+        assertEquals(itemDao.readAll().size(), total);
+        
+        // Items with equal names continue by ID
+        List<Item> rest = itemDao.readPage("Paged Item", items.get(0).getId(), 5);
+        assertEquals(items.get(1).getId(), rest.get(0).getId());
+        assertEquals(items.get(2).getId(), rest.get(1).getId());
+        
+        // Clean up
+        for (Item item : items) {
+            itemDao.delete(item.getId());
+        }
+    }
+}
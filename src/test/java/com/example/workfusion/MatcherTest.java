@@ -0,0 +1,637 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MatcherTest {
+
+    private static Seeker seeker(int id, String skills) {
+        return new Seeker(id, "Seeker " + id, "seeker" + id + "@example.com", skills, 1, null);
+    }
+
+    private static Job job(int id, String skills) {
+        return new Job(id, "Job " + id, "Description " + id, skills, 1, null);
+    }
+
+    // Seekers and jobs with ids from 1, each holding two or three skills of a pool of ten
+    private static MatchCorpus syntheticCorpus(int seekers, int jobs, boolean thirdSkill) {
+        String[] pool = {"java", "sql", "go", "rust", "css", "html", "aws", "k8s", "python", "c"};
+        List<Seeker> seekerList = new ArrayList<>();
+        for (int i = 1; i <= seekers; i++) {
+            seekerList.add(seeker(i, pool[i % 10] + "," + pool[(i * 3) % 10]
+                    + (thirdSkill ? "," + pool[(i / 7) % 10] : "")));
+        }
+        List<Job> jobList = new ArrayList<>();
+        for (int i = 1; i <= jobs; i++) {
+            jobList.add(job(i, pool[(i * 7) % 10] + "," + pool[(i + 1) % 10]
+                    + (thirdSkill ? "," + pool[(i / 3) % 10] : "")));
+        }
+        return Matcher.prepare(seekerList, jobList);
+    }
+
+    // Jobs of a corpus in slot order
+    private static List<Job> jobsOf(MatchCorpus corpus) {
+        List<Job> jobs = new ArrayList<>();
+        for (int j = 0; j < corpus.jobSlots(); j++) {
+            jobs.add(corpus.job(j));
+        }
+        return jobs;
+    }
+
+    @Test
+    @DisplayName("Test skill vectors ignore case, whitespace and duplicates")
+    public void testEncodeSkills() {
+        SkillDictionary dictionary = new SkillDictionary();
+        long[] a = dictionary.encode(" Java, spring ,JAVA,, MySQL ");
+        long[] b = dictionary.encode("mysql,java,Spring");
+
+        assertEquals(3, SkillBits.cardinality(a));
+        assertArrayEquals(a, b);
+        assertEquals(0, SkillBits.cardinality(dictionary.encode(null)));
+        assertEquals(0, SkillBits.cardinality(dictionary.encode("  , ,")));
+        assertEquals(0, dictionary.idOf("java"));
+        assertEquals("spring", dictionary.nameOf(1));
+        assertEquals(-1, dictionary.lookup("cobol"));
+        assertEquals(Arrays.asList("java", "spring", "mysql"), SkillDictionary.parse(" Java, spring ,JAVA,, MySQL "));
+        assertTrue(SkillDictionary.parse(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test skill names too long for the skills table are ignored everywhere")
+    public void testLongSkillsIgnored() {
+        String longest = "x".repeat(SkillDictionary.MAX_SKILL_LENGTH);
+        String tooLong = "y".repeat(SkillDictionary.MAX_SKILL_LENGTH + 1);
+        String skills = "java, " + tooLong + ", " + longest;
+
+        SkillDictionary dictionary = new SkillDictionary();
+        assertEquals(Arrays.asList("java", longest), SkillDictionary.parse(skills));
+        assertEquals(2, SkillBits.cardinality(dictionary.encode(skills)));
+        assertEquals(-1, dictionary.lookup(tooLong));
+
+        // The in-memory score uses the same skill count the link tables store
+        List<Matcher.MatchResult> results = Matcher.matchSeekerWithJobs(seeker(1, skills),
+                Arrays.asList(job(1, "java")));
+        assertEquals(2, results.get(0).getTotalSeekerSkills());
+        assertEquals(50, results.get(0).getScore());
+    }
+
+    @Test
+    @DisplayName("Test bitset intersection across words of different lengths")
+    public void testIntersectionCount() {
+        SkillDictionary dictionary = new SkillDictionary();
+        StringBuilder many = new StringBuilder();
+        for (int i = 0; i < 130; i++) {
+            many.append("skill").append(i).append(',');
+        }
+        long[] wide = dictionary.encode(many.toString());
+        long[] narrow = dictionary.encode("skill1, skill63, unknown");
+
+        assertEquals(3, wide.length);
+        assertEquals(130, SkillBits.cardinality(wide));
+        assertEquals(2, SkillBits.intersectionCount(wide, narrow));
+        assertEquals(2, SkillBits.intersectionCount(narrow, wide));
+    }
+
+    @Test
+    @DisplayName("Test Jaccard score of a seeker against jobs")
+    public void testMatchSeekerWithJobs() {
+        Seeker alice = seeker(1, "Java, Spring, MySQL, REST APIs");
+        List<Job> jobs = Arrays.asList(
+            job(1, "Java, Spring, Hibernate, MySQL"),
+            job(2, "JavaScript, HTML, CSS, React"));
+
+        List<Matcher.MatchResult> results = Matcher.matchSeekerWithJobs(alice, jobs);
+
+        assertEquals(2, results.size());
+        Matcher.MatchResult best = results.get(0);
+        assertEquals(1, best.getJob().getId());
+        assertEquals(3, best.getOverlapCount());
+        assertEquals(4, best.getTotalJobSkills());
+        assertEquals(4, best.getTotalSeekerSkills());
+        assertEquals(60, best.getScore());
+        assertEquals(0, results.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Test match all scores every pair")
+    public void testMatchAll() {
+        List<Seeker> seekers = Arrays.asList(seeker(1, "Docker, AWS"), seeker(2, ""));
+        List<Job> jobs = Arrays.asList(job(1, "docker, aws"), job(2, "AWS, Kubernetes"));
+
+        List<Matcher.MatchResult> results = Matcher.matchAll(seekers, jobs);
+
+        assertEquals(4, results.size());
+        assertEquals(100, results.get(0).getScore());
+        assertEquals(33, results.get(1).getScore());
+        assertEquals(0, results.get(3).getScore());
+    }
+
+    @Test
+    @DisplayName("Test prepared corpus reuses skill vectors and matches like the list API")
+    public void testPreparedCorpus() {
+        Seeker alice = seeker(1, "Java, Spring");
+        List<Seeker> seekers = Arrays.asList(alice, seeker(2, "React, CSS"));
+        List<Job> jobs = Arrays.asList(job(1, "Java, Spring, MySQL"), job(2, "React"));
+        MatchCorpus corpus = Matcher.prepare(seekers, jobs);
+
+        assertSame(corpus.seekerSkills(0), corpus.skillsOf(alice));
+        assertSame(alice, corpus.seeker(0));
+        Seeker edited = seeker(1, "Java");
+        assertEquals(1, SkillBits.cardinality(corpus.skillsOf(edited)));
+
+        List<Matcher.MatchResult> fromCorpus = Matcher.matchSeekerWithJobs(alice, corpus);
+        List<Matcher.MatchResult> fromList = Matcher.matchSeekerWithJobs(alice, jobs);
+        // The list overload also returns the job without a shared skill, last with score 0
+        assertEquals(fromList.size(), fromCorpus.size() + 1);
+        assertEquals(0, fromList.get(fromList.size() - 1).getScore());
+        for (int i = 0; i < fromCorpus.size(); i++) {
+            assertSame(fromList.get(i).getJob(), fromCorpus.get(i).getJob());
+            assertEquals(fromList.get(i).getScore(), fromCorpus.get(i).getScore());
+        }
+        assertEquals(4, Matcher.matchAll(corpus).size());
+    }
+
+    @Test
+    @DisplayName("Test skill index only yields seekers sharing a skill and follows changes")
+    public void testSkillIndexCandidates() {
+        MatchCorpus corpus = Matcher.prepare(
+            Arrays.asList(seeker(1, "Java, SQL"), seeker(2, "Go"), seeker(3, "sql")),
+            Arrays.asList(job(1, "SQL")));
+        Job sqlJob = corpus.job(0);
+
+        List<Matcher.MatchResult> results = Matcher.matchJobWithSeekers(sqlJob, corpus);
+        assertEquals(2, results.size());
+        assertEquals(3, results.get(0).getSeeker().getId());
+        assertEquals(1, results.get(1).getSeeker().getId());
+
+        corpus.seekerSaved(seeker(2, "Go, SQL"));
+        corpus.seekerDeleted(3);
+        corpus.seekerSaved(seeker(4, "SQL"));
+
+        results = Matcher.matchJobWithSeekers(sqlJob, corpus);
+        assertEquals(3, results.size());
+        assertEquals(4, results.get(0).getSeeker().getId());
+        assertArrayEquals(new int[] {1}, corpus.seekerIndex().postings(SkillDictionary.global().lookup("go")));
+        assertEquals(3, corpus.seekerIndex().frequency(SkillDictionary.global().lookup("sql")));
+    }
+
+    @Test
+    @DisplayName("Test top-k results equal the head of the fully ranked list")
+    public void testTopK() {
+        MatchCorpus corpus = syntheticCorpus(30, 30, true);
+
+        List<Matcher.MatchResult> all = Matcher.matchAll(corpus);
+        List<Matcher.MatchResult> top = Matcher.matchAll(corpus, 25, 0);
+        assertEquals(25, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertSame(all.get(i).getSeeker(), top.get(i).getSeeker());
+            assertSame(all.get(i).getJob(), top.get(i).getJob());
+        }
+
+        List<Matcher.MatchResult> strong = Matcher.matchAll(corpus, 10000, 50);
+        assertTrue(strong.stream().allMatch(r -> r.getScore() >= 50));
+        assertEquals(all.stream().filter(r -> r.getScore() >= 50).count(), strong.size());
+        assertEquals(0, Matcher.matchJobWithSeekers(corpus.job(0), corpus, 0, 0).size());
+        assertEquals(3, Matcher.matchSeekerWithJobs(corpus.seeker(0), jobsOf(corpus), 3, 0).size());
+    }
+
+    @Test
+    @DisplayName("Test score buckets rank like a comparison sort and stop at k")
+    public void testScoreBuckets() {
+        MatchCorpus corpus = syntheticCorpus(40, 40, true);
+        corpus.seekerSaved(seeker(0, "java, sql, go"));
+
+        List<Matcher.MatchResult> expected = new ArrayList<>(Matcher.matchAll(corpus, MatchCollector.topK(2000, 0)));
+        List<Matcher.MatchResult> bucketed = Matcher.matchAll(corpus, MatchCollector.buckets(2000, 0));
+        assertEquals(expected.size(), bucketed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), bucketed.get(i).getSeeker());
+            assertSame(expected.get(i).getJob(), bucketed.get(i).getJob());
+        }
+
+        List<Matcher.MatchResult> top = Matcher.matchAll(corpus, MatchCollector.buckets(7, 10));
+        assertEquals(7, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), top.get(i).getSeeker());
+            assertSame(expected.get(i).getJob(), top.get(i).getJob());
+        }
+        assertEquals(0, Matcher.matchAll(corpus, MatchCollector.buckets(0, 0)).size());
+    }
+
+    @Test
+    @DisplayName("Test parallel engine returns exactly the sequential results")
+    public void testParallelEngine() {
+        MatchCorpus corpus = syntheticCorpus(600, 40, true);
+        MatchEngine parallel = MatchEngine.parallel(4);
+
+        List<Matcher.MatchResult> sequential = Matcher.matchAll(corpus, MatchEngine.sequential(), () -> MatchCollector.sorted(0));
+        List<Matcher.MatchResult> concurrent = Matcher.matchAll(corpus, parallel, () -> MatchCollector.sorted(0));
+        assertEquals(600 * 40, concurrent.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertSame(sequential.get(i).getSeeker(), concurrent.get(i).getSeeker());
+            assertSame(sequential.get(i).getJob(), concurrent.get(i).getJob());
+        }
+
+        List<Matcher.MatchResult> top = Matcher.matchAll(corpus, 50, 30, parallel);
+        assertEquals(50, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertSame(sequential.get(i).getSeeker(), top.get(i).getSeeker());
+            assertSame(sequential.get(i).getJob(), top.get(i).getJob());
+        }
+    }
+
+    @Test
+    @DisplayName("Test list overloads return pairs without shared skills while corpus overloads skip them")
+    public void testZeroOverlapResults() {
+        Seeker seeker = seeker(1, "java, sql");
+        Job job = job(1, "java");
+        List<Job> jobs = Arrays.asList(job, job(2, "cobol"), job(3, "sql, java"));
+        List<Seeker> seekers = Arrays.asList(seeker, seeker(2, "cobol"), seeker(3, ""));
+
+        List<Matcher.MatchResult> forSeeker = Matcher.matchSeekerWithJobs(seeker, jobs);
+        assertEquals(3, forSeeker.size());
+        assertEquals(2, forSeeker.get(2).getJob().getId());
+        assertEquals(0, forSeeker.get(2).getOverlapCount());
+        assertEquals(0, forSeeker.get(2).getScore());
+        assertEquals(3, Matcher.matchSeekerWithJobs(seeker, jobs, 10, 0).size());
+        assertEquals(2, Matcher.matchSeekerWithJobs(seeker, jobs, 10, 1).size());
+
+        List<Matcher.MatchResult> forJob = Matcher.matchJobWithSeekers(job, seekers);
+        assertEquals(3, forJob.size());
+        assertEquals(2, forJob.get(1).getSeeker().getId());
+        assertEquals(3, forJob.get(2).getSeeker().getId());
+        assertEquals(0, forJob.get(1).getScore());
+        assertEquals(0, forJob.get(2).getScore());
+        assertEquals(3, Matcher.matchJobWithSeekers(job, seekers, 10, 0).size());
+
+        MatchCorpus corpus = Matcher.prepare(seekers, jobs);
+        assertEquals(2, Matcher.matchSeekerWithJobs(seeker, corpus).size());
+        assertEquals(1, Matcher.matchJobWithSeekers(job, corpus).size());
+    }
+
+    @Test
+    @DisplayName("Test parallel engine scores on at most its parallelism in shared workers")
+    public void testParallelEngineWorkerLimit() {
+        MatchCorpus corpus = syntheticCorpus(3000, 40, true);
+        MatchEngine engine = MatchEngine.parallel(2);
+        assertSame(engine.pool(), MatchEngine.parallel(2).pool());
+        assertNotSame(engine.pool(), MatchEngine.parallel(3).pool());
+
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        for (int run = 0; run < 5; run++) {
+            Matcher.matchAll(corpus, engine, () -> {
+                workers.add(Thread.currentThread());
+                return MatchCollector.topK(5, 0);
+            });
+        }
+        assertFalse(workers.isEmpty());
+        assertTrue(workers.size() <= 2, "Chunks ran on " + workers.size() + " threads");
+        for (Thread worker : workers) {
+            assertTrue(worker instanceof ForkJoinWorkerThread);
+            assertSame(engine.pool(), ((ForkJoinWorkerThread) worker).getPool());
+            assertTrue(worker.isDaemon());
+        }
+        assertTrue(engine.pool().getPoolSize() <= 2);
+    }
+
+    @Test
+    @DisplayName("Test MinHash matching rescores exactly and reports recall")
+    public void testMinHashMatcher() {
+        MatchCorpus corpus = syntheticCorpus(200, 50, true);
+        MinHashMatcher minHash = new MinHashMatcher(16, 2, 42L);
+        assertEquals(32, minHash.getNumHashes());
+
+        List<Matcher.MatchResult> exact = Matcher.matchAll(corpus, MatchEngine.sequential(), () -> MatchCollector.sorted(1));
+        for (Matcher.MatchResult result : minHash.matchAll(corpus, MatchCollector.sorted(1))) {
+            boolean present = exact.stream().anyMatch(e -> e.getSeeker() == result.getSeeker()
+                && e.getJob() == result.getJob() && e.getScore() == result.getScore());
+            assertTrue(present, "Approximate results must carry exact scores");
+        }
+
+        MinHashMatcher.Report report = minHash.measureRecall(corpus, 60);
+        assertTrue(report.getExactMatches() > 0);
+        assertTrue(report.getRecall() >= 0.9, report.toString());
+        assertArrayEquals(minHash.signature(SkillDictionary.global().encode("Java, SQL")),
+            minHash.signature(SkillDictionary.global().encode("sql,java")));
+    }
+
+    @Test
+    @DisplayName("Test prefix filtering prunes pairs but returns the thresholded exhaustive result")
+    public void testPrefixFilterJoin() {
+        List<Seeker> seekers = new ArrayList<>();
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            seekers.add(seeker(i, "common, s" + (i % 40) + ", s" + (i % 13) + (i % 3 == 0 ? ", s" + (i % 7) : "")));
+        }
+        for (int i = 1; i <= 80; i++) {
+            jobs.add(job(i, "common, s" + (i % 40) + (i % 2 == 0 ? ", s" + (i % 13) : "")));
+        }
+        MatchCorpus corpus = Matcher.prepare(seekers, jobs);
+        List<Matcher.MatchResult> exhaustive = Matcher.matchAll(corpus);
+
+        for (int minScore : new int[] {1, 25, 50, 60, 67, 100}) {
+            PrefixFilterJoin join = new PrefixFilterJoin(minScore);
+            List<Matcher.MatchResult> filtered = join.matchAll(corpus, MatchCollector.sorted(minScore));
+            List<Matcher.MatchResult> expected = new ArrayList<>();
+            for (Matcher.MatchResult result : exhaustive) {
+                if (result.getScore() >= minScore) {
+                    expected.add(result);
+                }
+            }
+            assertEquals(expected.size(), filtered.size(), "minScore " + minScore);
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i).getSeeker(), filtered.get(i).getSeeker());
+                assertSame(expected.get(i).getJob(), filtered.get(i).getJob());
+            }
+            if (minScore >= 50) {
+                assertTrue(join.getCandidatePairs() < 300L * 80 / 4, "minScore " + minScore + ": " + join.getCandidatePairs());
+            }
+        }
+        assertEquals(Matcher.matchAll(seekers, jobs, 60).size(), Matcher.matchAll(corpus, 60).size());
+    }
+
+    @Test
+    @DisplayName("Test CSR skill matrix rows and transpose")
+    public void testSkillMatrix() {
+        SkillDictionary dictionary = new SkillDictionary();
+        long[][] vectors = {
+            dictionary.encode("a, b"),
+            SkillBits.EMPTY,
+            dictionary.encode("b, c, a")
+        };
+        SkillMatrix matrix = SkillMatrix.ofRows(vectors, 3, dictionary.size());
+        assertEquals(5, matrix.nonZeros());
+        assertEquals(0, matrix.rowEnd(1) - matrix.rowStart(1));
+        assertEquals(2, matrix.column(matrix.rowStart(2) + 2));
+
+        SkillMatrix transposed = matrix.transpose();
+        assertEquals(3, transposed.rows());
+        assertEquals(3, transposed.columnCount());
+        assertEquals(2, transposed.rowEnd(1) - transposed.rowStart(1));
+        assertEquals(0, transposed.column(transposed.rowStart(1)));
+        assertEquals(2, transposed.column(transposed.rowStart(1) + 1));
+        assertEquals(1, transposed.rowEnd(2) - transposed.rowStart(2));
+    }
+
+    private SkillBlock randomBlock(SkillDictionary dictionary, Random random, long[][] vectors) {
+        for (int j = 0; j < vectors.length; j++) {
+            StringBuilder skills = new StringBuilder();
+            for (int n = random.nextInt(12); n > 0; n--) {
+                skills.append("skill").append(random.nextInt(300)).append(',');
+            }
+            vectors[j] = dictionary.encode(skills.toString());
+        }
+        return new SkillBlock(vectors, vectors.length);
+    }
+
+    @Test
+    @DisplayName("Test scalar block kernel matches pairwise popcount")
+    public void testScalarBlockKernel() {
+        SkillDictionary dictionary = new SkillDictionary();
+        Random random = new Random(7);
+        long[][] vectors = new long[37][];
+        SkillBlock block = randomBlock(dictionary, random, vectors);
+
+        int[] counts = new int[vectors.length];
+        for (int q = 0; q < vectors.length; q++) {
+            block.intersectionCountsScalar(vectors[q], counts);
+            for (int j = 0; j < vectors.length; j++) {
+                assertEquals(SkillBits.intersectionCount(vectors[q], vectors[j]), counts[j]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test Vector API block kernel gives the same counts as the scalar kernel")
+    public void testVectorBlockKernel() {
+        assumeTrue(SkillBlock.isVectorized(), "jdk.incubator.vector is not available");
+        SkillDictionary dictionary = new SkillDictionary();
+        Random random = new Random(11);
+        long[][] vectors = new long[53][];
+        SkillBlock block = randomBlock(dictionary, random, vectors);
+
+        int[] scalar = new int[vectors.length];
+        int[] vector = new int[vectors.length];
+        for (int q = 0; q < vectors.length; q++) {
+            block.intersectionCountsScalar(vectors[q], scalar);
+            block.intersectionCountsVector(vectors[q], vector);
+            assertArrayEquals(scalar, vector);
+        }
+        long[] wide = dictionary.encode("skill1, skill299, unknown-skill");
+        block.intersectionCountsScalar(wide, scalar);
+        block.intersectionCountsVector(wide, vector);
+        assertArrayEquals(scalar, vector);
+    }
+
+    @Test
+    @DisplayName("Test buffered matchAll equals the object-based results")
+    public void testMatchResultBuffer() {
+        MatchCorpus corpus = syntheticCorpus(300, 30, false);
+
+        List<Matcher.MatchResult> expected = Matcher.matchAll(corpus, MatchEngine.sequential(), () -> MatchCollector.sorted(1));
+        MatchResultBuffer buffer = Matcher.matchAllBuffered(corpus, 1, MatchEngine.parallel(4));
+        List<Matcher.MatchResult> rows = buffer.asList();
+        assertEquals(expected.size(), buffer.size());
+        assertEquals(expected.size(), rows.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), rows.get(i).getSeeker());
+            assertSame(expected.get(i).getJob(), rows.get(i).getJob());
+            assertEquals(expected.get(i).getScore(), rows.get(i).getScore());
+            assertEquals(expected.get(i).getOverlapCount(), buffer.overlapCount(i));
+            assertEquals(expected.get(i).getTotalJobSkills(), rows.get(i).getTotalJobSkills());
+        }
+
+        // Pairs offered out of order are still ranked by id within a score
+        MatchResultBuffer reversed = new MatchResultBuffer(corpus, 0);
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            reversed.offer(expected.get(i));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), reversed.seeker(i));
+            assertSame(expected.get(i).getJob(), reversed.job(i));
+            assertEquals(expected.get(i).getOverlapCount(), reversed.overlapCount(i));
+        }
+        assertThrows(UnsupportedOperationException.class, () -> rows.remove(0));
+    }
+
+    @Test
+    @DisplayName("Test match store stays equal to a full run across edits")
+    public void testMatchStore() {
+        MatchCorpus corpus = syntheticCorpus(120, 25, false);
+        MatchStore store = new MatchStore(corpus, 1);
+
+        store.jobSaved(job(5, "java, sql, go"));
+        store.jobSaved(job(26, "rust, css"));
+        store.jobDeleted(7);
+        store.seekerSaved(seeker(3, "python, aws, k8s"));
+        store.seekerSaved(seeker(121, "c, java"));
+        store.seekerDeleted(10);
+        store.jobSaved(job(9, ""));
+
+        List<Matcher.MatchResult> expected = Matcher.matchAll(corpus, MatchEngine.sequential(), () -> MatchCollector.sorted(1));
+        List<Matcher.MatchResult> stored = store.results().asList();
+        assertEquals(expected.size(), store.size());
+        assertEquals(expected.size(), stored.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), stored.get(i).getSeeker());
+            assertSame(expected.get(i).getJob(), stored.get(i).getJob());
+            assertEquals(expected.get(i).getScore(), stored.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Test match store follows corpus slot compaction")
+    public void testMatchStoreCompaction() {
+        MatchCorpus corpus = syntheticCorpus(150, 150, false);
+        Seeker first = corpus.seeker(0);
+        MatchCorpus copy = corpus.copy();
+        MatchStore store = new MatchStore(corpus, 1);
+        MatchResultBuffer before = store.results();
+
+        for (int i = 1; i <= 100; i++) {
+            store.seekerDeleted(i);
+            store.jobDeleted(i + 50);
+        }
+        // Each side compacts once, when the 76th of its 150 slots is emptied
+        assertEquals(2, corpus.layout());
+        assertEquals(74, corpus.seekerSlots());
+        assertEquals(74, corpus.jobSlots());
+        assertEquals(24, corpus.seekerSlotOf(101));
+        assertEquals(-1, corpus.seekerSlotOf(100));
+        assertNull(before.seeker(0));
+
+        // The copy keeps its own slots while the original is compacted
+        assertEquals(150, copy.seekerSlots());
+        assertEquals(0, copy.layout());
+        assertSame(first, copy.seeker(0));
+
+        store.jobSaved(job(151, "java, sql"));
+        store.seekerSaved(seeker(151, "go, java"));
+        List<Matcher.MatchResult> expected = Matcher.matchAll(corpus, MatchEngine.sequential(), () -> MatchCollector.sorted(1));
+        List<Matcher.MatchResult> stored = store.results().asList();
+        assertEquals(expected.size(), stored.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getSeeker(), stored.get(i).getSeeker());
+            assertSame(expected.get(i).getJob(), stored.get(i).getJob());
+            assertEquals(expected.get(i).getScore(), stored.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Test match publisher streams chunks on demand and stops on cancel")
+    public void testMatchPublisher() {
+        MatchCorpus corpus = syntheticCorpus(200, 20, false);
+        MatchPublisher publisher = new MatchPublisher(corpus, 1, 50, Runnable::run);
+
+        List<List<Matcher.MatchResult>> batches = new ArrayList<>();
+        boolean[] completed = new boolean[1];
+        publisher.subscribe(new Flow.Subscriber<List<Matcher.MatchResult>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(List<Matcher.MatchResult> batch) {
+                batches.add(batch);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed[0] = true;
+            }
+        });
+
+        assertTrue(completed[0]);
+        assertEquals(4, batches.size());
+        int total = 0;
+        for (int b = 0; b < batches.size(); b++) {
+            List<Matcher.MatchResult> batch = batches.get(b);
+            List<Matcher.MatchResult> ranked = new ArrayList<>(batch);
+            ranked.sort(Matcher.RANKING);
+            assertEquals(ranked, batch);
+            for (Matcher.MatchResult result : batch) {
+                assertEquals(b, (result.getSeeker().getId() - 1) / 50);
+            }
+            total += batch.size();
+        }
+        assertEquals(Matcher.matchAll(corpus, 1).size(), total);
+
+        // Nothing is scored without demand, and nothing more after a cancel
+        List<List<Matcher.MatchResult>> cancelled = new ArrayList<>();
+        publisher.subscribe(new Flow.Subscriber<List<Matcher.MatchResult>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(3);
+            }
+
+            @Override
+            public void onNext(List<Matcher.MatchResult> batch) {
+                cancelled.add(batch);
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("cancelled run completed");
+            }
+        });
+        assertEquals(1, cancelled.size());
+
+        // A subscriber throwing from onNext is cancelled, not sent onError
+        int[] signals = new int[2];
+        publisher.subscribe(new Flow.Subscriber<List<Matcher.MatchResult>>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(List<Matcher.MatchResult> batch) {
+                signals[0]++;
+                throw new IllegalStateException("subscriber bug");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                signals[1]++;
+            }
+
+            @Override
+            public void onComplete() {
+                fail("run with a failed subscriber completed");
+            }
+        });
+        assertEquals(1, signals[0]);
+        assertEquals(0, signals[1]);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.workfusion;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migration tests against a recording fake connection, so they run without MySQL.
+ */
+public class MigrationRunnerTest {
+
+    @Test
+    void testScriptsAreOrderedAndReadable() throws SQLException {
+        int previous = 0;
+        for (String script : MigrationRunner.MIGRATIONS) {
+            int version = MigrationRunner.versionOf(script);
+            assertEquals(previous + 1, version, "Versions should be consecutive: " + script);
+            previous = version;
+            if (!MigrationRunner.isScript(script)) {
+                continue;
+            }
+
+            List<String> statements = MigrationRunner.readStatements(script);
+            assertFalse(statements.isEmpty(), "Script should hold statements: " + script);
+            for (String sql : statements) {
+                assertFalse(sql.endsWith(";"), "Statement should be split at its semicolon: " + sql);
+                assertFalse(sql.startsWith("--"), "Comments should be skipped: " + sql);
+            }
+        }
+        assertEquals(previous, new MigrationRunner().getLatestVersion());
+        assertEquals(3, MigrationRunner.readStatements("V2__add_keyset_indexes.sql").size());
+    }
+
+    @Test
+    void testCurrentSchemaRunsOneQueryAndNoDdl() throws SQLException {
+        MigrationRunner runner = new MigrationRunner();
+        FakeConnection db = new FakeConnection(runner.getLatestVersion());
+
+        assertEquals(List.of(), runner.migrate(db.proxy()));
+        assertEquals(List.of("SELECT MAX(version) FROM schema_version"), db.executed);
+    }
+
+    @Test
+    void testAppliesPendingMigrationsInOrder() throws SQLException {
+        MigrationRunner runner = new MigrationRunner();
+        FakeConnection db = new FakeConnection(1);
+        // Databases created before the runner already have the keyset indexes
+        db.failing = "CREATE INDEX idx_seekers_name_id";
+
+        List<String> applied = runner.migrate(db.proxy());
+        assertEquals(runner.getLatestVersion() - 1, applied.size());
+        assertEquals("V2__add_keyset_indexes.sql", applied.get(0));
+        assertTrue(db.executed.get(1).startsWith("SELECT GET_LOCK"), "Lock should be taken before any DDL");
+        assertTrue(db.executed.get(db.executed.size() - 1).startsWith("SELECT RELEASE_LOCK"));
+        List<Integer> pending = new ArrayList<>();
+        for (int version = 2; version <= runner.getLatestVersion(); version++) {
+            pending.add(version);
+        }
+        assertEquals(pending, db.recordedVersions);
+        assertTrue(db.executed.contains("SELECT id, skills FROM jobs WHERE id > ? ORDER BY id LIMIT ?"),
+                "Skills should be backfilled from the jobs table");
+
+        int v2 = db.executed.indexOf("CREATE INDEX idx_jobs_title_id ON jobs (title, id)");
+        int v3 = db.executed.indexOf("INSERT INTO schema_version (version, script) VALUES (?, ?)");
+        assertTrue(v2 > 0 && v3 > v2, "Statements of version 2 should run before version 2 is recorded");
+    }
+
+    @Test
+    void testFailedMigrationIsNotRecorded() {
+        MigrationRunner runner = new MigrationRunner();
+        FakeConnection db = new FakeConnection(0);
+        db.failing = "CREATE TABLE IF NOT EXISTS seekers";
+        db.failingCode = 1064;
+
+        SQLException error = assertThrows(SQLException.class, () -> runner.migrate(db.proxy()));
+        assertTrue(error.getMessage().contains("V1__create_tables.sql"));
+        assertTrue(db.recordedVersions.isEmpty());
+        assertTrue(db.executed.get(db.executed.size() - 1).startsWith("SELECT RELEASE_LOCK"),
+                "Lock should be released after a failure");
+    }
+
+    @Test
+    void testUnknownJavaMigrationFails() {
+        MigrationRunner runner = new MigrationRunner(new String[] {"V1__no_such_migration"});
+        FakeConnection db = new FakeConnection(0);
+
+        SQLException error = assertThrows(SQLException.class, () -> runner.migrate(db.proxy()));
+        assertTrue(error.getMessage().contains("V1__no_such_migration"));
+        assertTrue(db.recordedVersions.isEmpty());
+    }
+
+    /**
+     * Connection recording every statement, answering the version query with a fixed
+     * version, the lock queries with success and any other query with no rows.
+     */
+    static class FakeConnection {
+        final int version;
+        final List<String> executed = new ArrayList<>();
+        final List<Integer> recordedVersions = new ArrayList<>();
+        String failing;
+        int failingCode = 1061;
+
+        FakeConnection(int version) {
+            this.version = version;
+        }
+
+        private void run(String sql) throws SQLException {
+            executed.add(sql);
+            if (failing != null && sql.startsWith(failing)) {
+                throw new SQLException("Failing on purpose", "42000", failingCode);
+            }
+        }
+
+        private ResultSet rows(int count, int value) {
+            int[] read = new int[1];
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                    new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "next": return read[0]++ < count;
+                    case "getInt": return value;
+                    default: return null;
+                }
+            });
+        }
+
+        private Statement statement() {
+            return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                    new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "execute": run((String) args[0]); return false;
+                    case "executeQuery": run((String) args[0]); return rows(1, version);
+                    default: return null;
+                }
+            });
+        }
+
+        private PreparedStatement prepared(String sql) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "setInt":
+                        if (sql.startsWith("INSERT INTO schema_version")) {
+                            recordedVersions.add((Integer) args[1]);
+                        }
+                        return null;
+                    case "executeQuery": run(sql); return rows(sql.contains("_LOCK(") ? 1 : 0, 1);
+                    case "executeUpdate": run(sql); return 1;
+                    case "executeBatch": run(sql); return new int[0];
+                    default: return null;
+                }
+            });
+        }
+
+        Connection proxy() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "createStatement": return statement();
+                    case "prepareStatement": return prepared((String) args[0]);
+                    case "setAutoCommit":
+                    case "commit":
+                    case "rollback": return null;
+                    default: throw new SQLException("Not supported by fake connection: " + method.getName());
+                }
+            });
+        }
+    }
+}